@@ -0,0 +1,246 @@
+package com.incarcloud.rooster.datapack;
+
+import java.util.List;
+
+/**
+ * 透传数据(0x09)解析上下文
+ * 保存一个透传信息单元内各ECU的数据对象, CAN信号表解析出的值写入这里
+ * <p>
+ * 数据对象在第一次赋值时创建, 只输出收到过CAN报文的对象;
+ * 各对象收到的报文位图见 {@link D2sUnitVisitor#onCanGroup(D2sCanGroup, long)}。
+ * <p>
+ * 实例由 {@link D2sTargetCollector} 持有并重复使用: 每个透传信息单元解析前调用 {@link #reset},
+ * 输出后调用 {@link #clear()}; 单体电池电压和探头温度数组只在第一次使用时分配。
+ */
+final class D2sCanContext {
+    /**
+     * 单体电池电压个数
+     */
+    static final int VOLTAGE_COUNT = 42;
+    /**
+     * 探头温度个数
+     */
+    static final int TEMPERATURE_COUNT = 12;
+
+    private DataPackObject dataPackObject;
+    /**
+     * 是否生成eps报警数据
+     */
+    private boolean withAlarm;
+
+    private DataPackCanHvac hvac;
+    private DataPackCanBcm bcm;
+    private DataPackCanVms vms;
+    private DataPackCanPeps peps;
+    private DataPackCanEps eps;
+    private DataPackCanAdas adas;
+    private DataPackCanBms bms;
+    private DataPackCanObc obc;
+    private DataPackCanMc mc;
+    /**
+     * eps报警数据
+     */
+    private DataPackAlarm alarmEps;
+    /**
+     * 单体电池电压, 输出时才转换为 Float[]
+     */
+    private float[] voltages;
+    /**
+     * 已赋值的单体电池电压位图
+     */
+    private long voltageMask;
+    /**
+     * 探头温度, 输出时才转换为 Integer[]
+     */
+    private int[] temperatures;
+    /**
+     * 已赋值的探头温度位图
+     */
+    private int temperatureMask;
+    /**
+     * 同一数据包中已解析的车辆位置, 报警数据引用
+     */
+    DataPackPosition position;
+
+    /**
+     * 开始解析一个透传信息单元
+     *
+     * @param dataPackObject 数据包公共信息
+     * @param position       车辆位置信息, 可以为null
+     * @param withAlarm      是否生成eps报警数据
+     */
+    void reset(DataPackObject dataPackObject, DataPackPosition position, boolean withAlarm) {
+        clear();
+        this.dataPackObject = dataPackObject;
+        this.position = position;
+        this.withAlarm = withAlarm;
+    }
+
+    /**
+     * 释放对数据对象的引用, 保留可重复使用的数组
+     */
+    void clear() {
+        dataPackObject = null;
+        position = null;
+        hvac = null;
+        bcm = null;
+        vms = null;
+        peps = null;
+        eps = null;
+        adas = null;
+        bms = null;
+        obc = null;
+        mc = null;
+        alarmEps = null;
+        voltageMask = 0;
+        temperatureMask = 0;
+    }
+
+    DataPackCanHvac hvac() {
+        if (null == hvac) {
+            hvac = new DataPackCanHvac(dataPackObject);
+        }
+        return hvac;
+    }
+
+    DataPackCanBcm bcm() {
+        if (null == bcm) {
+            bcm = new DataPackCanBcm(dataPackObject);
+        }
+        return bcm;
+    }
+
+    DataPackCanVms vms() {
+        if (null == vms) {
+            vms = new DataPackCanVms(dataPackObject);
+        }
+        return vms;
+    }
+
+    DataPackCanPeps peps() {
+        if (null == peps) {
+            peps = new DataPackCanPeps(dataPackObject);
+        }
+        return peps;
+    }
+
+    DataPackCanEps eps() {
+        if (null == eps) {
+            eps = new DataPackCanEps(dataPackObject);
+        }
+        return eps;
+    }
+
+    DataPackCanAdas adas() {
+        if (null == adas) {
+            adas = new DataPackCanAdas(dataPackObject);
+        }
+        return adas;
+    }
+
+    /**
+     * 电池管理系统数据, 第一次使用时分配单体电池电压和探头温度数组
+     */
+    DataPackCanBms bms() {
+        if (null == bms) {
+            bms = new DataPackCanBms(dataPackObject);
+            if (null == voltages) {
+                voltages = new float[VOLTAGE_COUNT];
+                temperatures = new int[TEMPERATURE_COUNT];
+            }
+        }
+        return bms;
+    }
+
+    DataPackCanObc obc() {
+        if (null == obc) {
+            obc = new DataPackCanObc(dataPackObject);
+        }
+        return obc;
+    }
+
+    DataPackCanMc mc() {
+        if (null == mc) {
+            mc = new DataPackCanMc(dataPackObject);
+        }
+        return mc;
+    }
+
+    /**
+     * @return eps报警数据, 不生成报警时为null
+     */
+    DataPackAlarm alarmEps() {
+        if (null == alarmEps && withAlarm) {
+            alarmEps = new DataPackAlarm(dataPackObject);
+        }
+        return alarmEps;
+    }
+
+    /**
+     * 单体电池电压
+     *
+     * @param index 电池序号(从0开始)
+     * @param value 电压
+     */
+    void voltage(int index, float value) {
+        bms();
+        voltages[index] = value;
+        voltageMask |= 1L << index;
+    }
+
+    /**
+     * 探头温度
+     *
+     * @param index 探头序号(从0开始)
+     * @param value 温度
+     */
+    void temperature(int index, int value) {
+        bms();
+        temperatures[index] = value;
+        temperatureMask |= 1 << index;
+    }
+
+    /**
+     * 输出解析结果, 只输出已创建的数据对象
+     *
+     * @param dataPackTargetList 数据包目标列表
+     */
+    void addTo(List<DataPackTarget> dataPackTargetList) {
+        add(dataPackTargetList, hvac);
+        add(dataPackTargetList, bcm);
+        add(dataPackTargetList, vms);
+        add(dataPackTargetList, peps);
+        add(dataPackTargetList, eps);
+        add(dataPackTargetList, adas);
+        if (null != bms) {
+            //未收到的电压和温度为null
+            Float[] voltageArray = new Float[VOLTAGE_COUNT];
+            for (int i = 0; i < VOLTAGE_COUNT; i++) {
+                if (0 != (voltageMask & 1L << i)) {
+                    voltageArray[i] = voltages[i];
+                }
+            }
+            bms.setVoltage(voltageArray);// 单体电池电压数组
+            Integer[] tempratureArray = new Integer[TEMPERATURE_COUNT];
+            for (int i = 0; i < TEMPERATURE_COUNT; i++) {
+                if (0 != (temperatureMask & 1 << i)) {
+                    tempratureArray[i] = temperatures[i];
+                }
+            }
+            bms.setTemprature(tempratureArray);// 探头温度数组
+        }
+        add(dataPackTargetList, bms);
+        add(dataPackTargetList, obc);
+        add(dataPackTargetList, mc);
+        //eps报警数据
+        if (null != alarmEps) {
+            dataPackTargetList.add(new DataPackTarget(alarmEps));
+        }
+    }
+
+    private static void add(List<DataPackTarget> dataPackTargetList, DataPackObject dataPackObject) {
+        if (null != dataPackObject) {
+            dataPackTargetList.add(new DataPackTarget(dataPackObject));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.incarcloud.rooster.datapack;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * D2S透传数据(0x09)订阅
+ * <p>
+ * 声明调用方需要的ECU分组或CAN ID, 未订阅的CAN报文按ID跳过, 不解析信号。
+ * {@link #ALL} 为默认的全量模式, 解析全部CAN报文。
+ * 无论是否订阅, 没有收到报文的ECU都不创建数据对象, 也不输出。
+ * 实例不可变, 可以在多个解析器之间共享。
+ */
+public final class D2sCanFilter {
+
+    /**
+     * 全量解析
+     */
+    public static final D2sCanFilter ALL = new D2sCanFilter(EnumSet.allOf(D2sCanGroup.class), new int[0], true);
+
+    /**
+     * 订阅的ECU分组
+     */
+    private final EnumSet<D2sCanGroup> groups;
+
+    /**
+     * 订阅的CAN ID(有序), 与分组取并集
+     */
+    private final int[] canIds;
+
+    /**
+     * 是否全量解析
+     */
+    private final boolean all;
+
+    private D2sCanFilter(EnumSet<D2sCanGroup> groups, int[] canIds, boolean all) {
+        this.groups = groups;
+        this.canIds = canIds;
+        this.all = all;
+    }
+
+    /**
+     * 只订阅指定的ECU分组
+     *
+     * @param groups ECU分组
+     * @return 订阅
+     */
+    public static D2sCanFilter groups(D2sCanGroup... groups) {
+        EnumSet<D2sCanGroup> groupSet = EnumSet.noneOf(D2sCanGroup.class);
+        Collections.addAll(groupSet, groups);
+        return new D2sCanFilter(groupSet, new int[0], false);
+    }
+
+    /**
+     * 只订阅指定的CAN ID
+     *
+     * @param canIds CAN ID
+     * @return 订阅
+     */
+    public static D2sCanFilter canIds(int... canIds) {
+        return new D2sCanFilter(EnumSet.noneOf(D2sCanGroup.class), new int[0], false).withCanIds(canIds);
+    }
+
+    /**
+     * 在当前订阅的基础上增加CAN ID
+     *
+     * @param canIds CAN ID
+     * @return 新的订阅
+     */
+    public D2sCanFilter withCanIds(int... canIds) {
+        if (all) {
+            return this;
+        }
+        int[] merged = Arrays.copyOf(this.canIds, this.canIds.length + canIds.length);
+        System.arraycopy(canIds, 0, merged, this.canIds.length, canIds.length);
+        Arrays.sort(merged);
+        return new D2sCanFilter(groups, merged, false);
+    }
+
+    /**
+     * @return 是否全量解析
+     */
+    public boolean isAll() {
+        return all;
+    }
+
+    /**
+     * @return 订阅的ECU分组
+     */
+    public Set<D2sCanGroup> getGroups() {
+        return Collections.unmodifiableSet(groups);
+    }
+
+    /**
+     * 判断CAN报文是否需要解析
+     *
+     * @param group 报文所属ECU分组, 可以为null
+     * @param canId CAN ID
+     * @return true-需要解析
+     */
+    boolean accept(D2sCanGroup group, int canId) {
+        return all || (null != group && groups.contains(group)) || Arrays.binarySearch(canIds, canId) >= 0;
+    }
+
+    @Override
+    public String toString() {
+        return all ? "D2sCanFilter[ALL]" : "D2sCanFilter[groups=" + groups + ", canIds=" + Arrays.toString(canIds) + "]";
+    }
+}
@@ -0,0 +1,53 @@
+package com.incarcloud.rooster.datapack;
+
+/**
+ * D2S透传数据(0x09)中的ECU分组, 每组对应一种CAN数据对象
+ * <p>
+ * 解析时记录每个分组收到了哪些CAN报文(位图), 第i位对应 {@link #getCanIds()} 的第i个报文,
+ * 同一报文中的信号同时赋值, 因此位图也表示哪些信号已赋值; 位图通过 {@link D2sUnitVisitor#onCanGroup} 回调。
+ */
+public enum D2sCanGroup {
+    /**
+     * 空调, {@link DataPackCanHvac}
+     */
+    HVAC,
+    /**
+     * 车身控制器, {@link DataPackCanBcm}
+     */
+    BCM,
+    /**
+     * 整车控制器, {@link DataPackCanVms}
+     */
+    VMS,
+    /**
+     * 无钥匙进入及启动, {@link DataPackCanPeps}
+     */
+    PEPS,
+    /**
+     * 电动助力转向, {@link DataPackCanEps}, 包括eps报警数据
+     */
+    EPS,
+    /**
+     * 高级驾驶辅助, {@link DataPackCanAdas}
+     */
+    ADAS,
+    /**
+     * 电池管理系统, {@link DataPackCanBms}, 包括单体电池电压和探头温度
+     */
+    BMS,
+    /**
+     * 车载充电机, {@link DataPackCanObc}
+     */
+    OBC,
+    /**
+     * 电机控制器, {@link DataPackCanMc}
+     */
+    MC;
+
+    /**
+     * @return 本分组有信号的CAN报文ID, 按位图中的位排列
+     */
+    public int[] getCanIds() {
+        return D2sCanSignalDb.canIds(this);
+    }
+}
@@ -0,0 +1,168 @@
+package com.incarcloud.rooster.datapack;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * D2S透传数据(0x09)CAN信号描述, 用于 {@link D2sUnitVisitor#onCanSignal} 和 {@link D2sUnitVisitor#onAlarm} 回调
+ * <p>
+ * 实例由信号表创建且不可变, 同一信号每次回调都是同一个实例, 可以直接作为 Map 的键或用 == 比较。
+ * 信号值按 (原始值 * factor 或 原始值 / factor) + offset 换算, 浮点信号再保留 scale 位小数。
+ */
+public final class D2sCanSignal {
+
+    private final int canId;
+    private final String messageName;
+    private final D2sCanGroup group;
+    private final int index;
+    private final String name;
+    private final int startBit;
+    private final int length;
+    private final boolean floating;
+    private final float factor;
+    private final boolean quotient;
+    private final float offset;
+    private final int scale;
+    private final String alarmCode;
+    private final String alarmName;
+
+    D2sCanSignal(int canId, String messageName, D2sCanGroup group, int index, D2sCanSignalDb.Signal signal) {
+        this.canId = canId;
+        this.messageName = messageName;
+        this.group = group;
+        this.index = index;
+        this.name = signal.name;
+        this.startBit = signal.startBit;
+        this.length = signal.length;
+        this.floating = null != signal.floatSetter;
+        this.factor = signal.factor;
+        this.quotient = signal.quotient;
+        this.offset = floating ? signal.offset : signal.intOffset;
+        this.scale = signal.scale;
+        this.alarmCode = signal.alarmCode;
+        this.alarmName = signal.alarmName;
+    }
+
+    /**
+     * @param canId CAN ID
+     * @return 报文中的信号, 按在报文中的顺序; 信号表中没有该CAN ID时为空列表
+     */
+    public static List<D2sCanSignal> forCanId(int canId) {
+        D2sCanSignalDb.Message message = D2sCanSignalDb.message(canId);
+        return null == message ? Collections.emptyList() : message.descriptorList;
+    }
+
+    /**
+     * @return CAN ID
+     */
+    public int getCanId() {
+        return canId;
+    }
+
+    /**
+     * @return 报文名称
+     */
+    public String getMessageName() {
+        return messageName;
+    }
+
+    /**
+     * @return ECU分组, 版本等不输出的报文为null
+     */
+    public D2sCanGroup getGroup() {
+        return group;
+    }
+
+    /**
+     * @return 信号在报文中的序号
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * 信号名称, 一般为赋值的数据对象属性名, 如 rkelockCmd; 单体电池电压和探头温度为 voltage[i] 和 temperature[i]。
+     * 与其他信号写入同一属性的信号另有名称, 同一报文中的名称不重复。
+     *
+     * @return 信号名称
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return 起始位(小端, 从最低位开始计)
+     */
+    public int getStartBit() {
+        return startBit;
+    }
+
+    /**
+     * @return 位数
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * @return true-浮点信号, 回调 {@link D2sUnitVisitor#onCanSignal(D2sCanSignal, float)};
+     * false-整数信号, 回调 {@link D2sUnitVisitor#onCanSignal(D2sCanSignal, int)}
+     */
+    public boolean isFloating() {
+        return floating;
+    }
+
+    /**
+     * @return 换算系数, 整数信号为1
+     */
+    public float getFactor() {
+        return factor;
+    }
+
+    /**
+     * @return true-原始值除以系数, false-原始值乘以系数
+     */
+    public boolean isQuotient() {
+        return quotient;
+    }
+
+    /**
+     * @return 偏移量
+     */
+    public float getOffset() {
+        return offset;
+    }
+
+    /**
+     * @return 保留小数位数, 整数信号为0
+     */
+    public int getScale() {
+        return scale;
+    }
+
+    /**
+     * @return 是否报警信号
+     */
+    public boolean isAlarm() {
+        return null != alarmCode;
+    }
+
+    /**
+     * @return 报警代码, 非报警信号为null
+     */
+    public String getAlarmCode() {
+        return alarmCode;
+    }
+
+    /**
+     * @return 报警名称, 非报警信号为null
+     */
+    public String getAlarmName() {
+        return alarmName;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[0x%08X].%s", messageName, canId, name);
+    }
+}
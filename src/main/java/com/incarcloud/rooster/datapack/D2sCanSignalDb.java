@@ -0,0 +1,786 @@
+package com.incarcloud.rooster.datapack;
+
+import com.incarcloud.rooster.util.D2sDataPackUtil;
+import io.netty.util.collection.IntObjectHashMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * D2S透传数据(0x09)CAN信号表
+ * <p>
+ * 每个CAN ID对应一条报文定义, 报文由若干信号(起始位、长度、换算方式、赋值目标)组成,
+ * 解析时按CAN ID查表, 再用通用的位提取逻辑依次解析信号, 不再逐个比较CAN ID和手写移位。
+ * 8字节CAN数据按小端转换为64位整数, 起始位从最低位开始计。
+ */
+final class D2sCanSignalDb {
+
+    /**
+     * 整数信号赋值
+     */
+    interface IntSetter {
+        void set(D2sCanContext context, int value);
+    }
+
+    /**
+     * 浮点信号赋值
+     */
+    interface FloatSetter {
+        void set(D2sCanContext context, float value);
+    }
+
+    /**
+     * 信号定义
+     */
+    static final class Signal {
+        /**
+         * 信号名称, 见 {@link D2sCanSignal#getName()}
+         */
+        final String name;
+        /**
+         * 起始位
+         */
+        final int startBit;
+        /**
+         * 位数
+         */
+        final int length;
+        /**
+         * 掩码
+         */
+        final long mask;
+        /**
+         * 整数偏移量
+         */
+        final int intOffset;
+        /**
+         * 浮点换算系数
+         */
+        final float factor;
+        /**
+         * true-原始值除以系数, false-原始值乘以系数
+         */
+        final boolean quotient;
+        /**
+         * 浮点偏移量
+         */
+        final float offset;
+        /**
+         * 保留小数位数(四舍五入)
+         */
+        final int scale;
+        /**
+         * 报警代码, 非报警信号为null
+         */
+        final String alarmCode;
+        /**
+         * 报警名称
+         */
+        final String alarmName;
+        final IntSetter intSetter;
+        final FloatSetter floatSetter;
+
+        Signal(String name, int startBit, int length, int intOffset, float factor, boolean quotient, float offset,
+               int scale, String alarmCode, String alarmName,
+               IntSetter intSetter, FloatSetter floatSetter) {
+            this.name = name;
+            this.startBit = startBit;
+            this.length = length;
+            this.mask = (1L << length) - 1;
+            this.intOffset = intOffset;
+            this.factor = factor;
+            this.quotient = quotient;
+            this.offset = offset;
+            this.scale = scale;
+            this.alarmCode = alarmCode;
+            this.alarmName = alarmName;
+            this.intSetter = intSetter;
+            this.floatSetter = floatSetter;
+        }
+
+        /**
+         * 提取原始值
+         *
+         * @param bit64 CAN数据
+         * @return 原始值
+         */
+        long raw(long bit64) {
+            return (bit64 >>> startBit) & mask;
+        }
+
+        /**
+         * 解析并赋值
+         *
+         * @param bit64   CAN数据
+         * @param context 解析上下文
+         */
+        void decode(long bit64, D2sCanContext context) {
+            long raw = raw(bit64);
+            if (null != intSetter) {
+                intSetter.set(context, (int) raw + intOffset);
+                return;
+            }
+
+            floatSetter.set(context, value(raw));
+        }
+
+        /**
+         * 浮点信号换算
+         *
+         * @param raw 原始值
+         * @return 换算并保留小数后的值
+         */
+        float value(long raw) {
+            float value = (quotient ? (float) raw / factor : (float) raw * factor) + offset;
+            return D2sDataPackUtil.round(value, scale);
+        }
+    }
+
+    /**
+     * 报文定义
+     */
+    static final class Message {
+        final int canId;
+        /**
+         * 报文名称, 用于调试信息和 {@link D2sCanSignal#getMessageName()}
+         */
+        final String name;
+        /**
+         * 所属ECU分组, 版本等不输出的报文为null
+         */
+        final D2sCanGroup group;
+        /**
+         * 报文在所属ECU分组中的位, 见 {@link D2sCanGroup#getCanIds()}; 没有信号的报文为0
+         */
+        final long bit;
+        final Signal[] signals;
+        /**
+         * 信号描述, 与 signals 一一对应
+         */
+        final D2sCanSignal[] descriptors;
+        /**
+         * 信号描述(只读), 见 {@link D2sCanSignal#forCanId(int)}
+         */
+        final List<D2sCanSignal> descriptorList;
+        /**
+         * 是否包含报警信号
+         */
+        final boolean alarm;
+
+        Message(int canId, String name, D2sCanGroup group, long bit, Signal[] signals) {
+            this.canId = canId;
+            this.name = name;
+            this.group = group;
+            this.bit = bit;
+            this.signals = signals;
+            this.descriptors = new D2sCanSignal[signals.length];
+            boolean alarm = false;
+            for (int i = 0; i < signals.length; i++) {
+                descriptors[i] = new D2sCanSignal(canId, name, group, i, signals[i]);
+                alarm |= null != signals[i].alarmCode;
+            }
+            this.descriptorList = Collections.unmodifiableList(Arrays.asList(descriptors));
+            this.alarm = alarm;
+        }
+    }
+
+    /**
+     * CAN ID -> 报文定义
+     */
+    private static final IntObjectHashMap<Message> MESSAGES = new IntObjectHashMap<>();
+
+    /**
+     * ECU分组 -> 有信号的报文CAN ID, 按定义顺序, 下标即报文在分组中的位
+     */
+    private static final Map<D2sCanGroup, List<Integer>> GROUP_CAN_IDS = new EnumMap<>(D2sCanGroup.class);
+
+    static {
+        //版本信息, 原实现解析后未输出
+        message(0x18FF64DA, "icu版本", null);
+        message(0x18FF6401, "vms版本", D2sCanGroup.VMS);
+        message(0x18FF64F4, "bms版本", D2sCanGroup.BMS);
+        message(0x18FF64EF, "mc版本", D2sCanGroup.MC);
+        message(0x18FF64DD, "peps版本", D2sCanGroup.PEPS);
+        message(0x18FF64E5, "obc版本", D2sCanGroup.OBC);
+        message(0x18FF64DE, "hvac版本", D2sCanGroup.HVAC);
+        message(0x18FF64E7, "gprs版本", null);
+        message(0x18FF64DC, "bcm版本", D2sCanGroup.BCM);
+        message(0x18FF64DF, "adas版本", D2sCanGroup.ADAS);
+        message(0x18FF64DB, "gps版本", null);
+        //peps PEPS_SEND1_MSG
+        message(0x08FF00DD, "PEPS_SEND1_MSG", D2sCanGroup.PEPS,
+                bits("rkelockCmd", 0, 4, (c, v) -> c.peps().setRkelockCmd(v)),//遥控器状态
+                bits("pkelockCmd", 4, 4, (c, v) -> c.peps().setPkelockCmd(v)),//无钥匙进入状态
+                bits("pepsbcmAlarm", 8, 4, (c, v) -> c.peps().setPepsbcmAlarm(v)),//PepsBcmAlarm
+                bits("pepsicuAlarm", 12, 4, (c, v) -> c.peps().setPepsicuAlarm(v)),//仪表报警提示
+                bits("pepsEsclpowerEnable", 16, 2, (c, v) -> c.peps().setPepsEsclpowerEnable(v)),//ESCL电源状态
+                bits("syspowMode", 18, 2, (c, v) -> c.peps().setSyspowMode(v)),//整车电源档位
+                bits("fobIndex", 20, 3, (c, v) -> c.peps().setFobIndex(v)),
+                bits("crankRequest", 23, 1, (c, v) -> c.peps().setCrankRequest(v)),//启动请求
+                bits("esclStatus", 24, 1, (c, v) -> c.peps().setEsclStatus(v)));//ESCL状态
+        //peps
+        message(0x08FF01DD, "peps", D2sCanGroup.PEPS,
+                bits("fobPosition", 0, 3, (c, v) -> c.peps().setFobPosition(v)),//钥匙位置
+                bits("authenticationStatus", 3, 1, (c, v) -> c.peps().setAuthenticationStatus(v)),//认证状态
+                bits("spareKeyStatus", 4, 1, (c, v) -> c.peps().setSpareKeyStatus(v)),//备用钥匙状态
+                bits("ssbSw1", 5, 1, (c, v) -> c.peps().setSsbSw1(v)),//启动按键状态
+                bits("ssbSw2", 6, 1, (c, v) -> c.peps().setSsbSw2(v)),//启动按键状态
+                bits("driverdDoorStatus", 7, 1, (c, v) -> c.peps().setDriverdDoorStatus(v)),//驾驶门状态
+                bits("passDoorSwStatus", 8, 1, (c, v) -> c.peps().setPassDoorSwStatus(v)),//副驾门状态
+                bits("trunksw", 9, 1, (c, v) -> c.peps().setTrunksw(v)),//尾门状态
+                bits("brakeSw", 10, 1, (c, v) -> c.peps().setBrakeSw(v)),//制动踏板状态
+                bits("accFb", 11, 1, (c, v) -> c.peps().setAccFb(v)),//ACC电源状态
+                bits("onFb", 12, 1, (c, v) -> c.peps().setOnFb(v)),//ON电源状态
+                bits("accCtrl", 13, 1, (c, v) -> c.peps().setAccCtrl(v)),//ACC控制信号
+                bits("onCtrl", 14, 1, (c, v) -> c.peps().setOnCtrl(v)),//ON控制信号
+                bits("esclUnlockFb", 15, 1, (c, v) -> c.peps().setEsclUnlockFb(v)),//escl解锁
+                bits("esclLockEn", 16, 1, (c, v) -> c.peps().setEsclLockEn(v)),//escl上锁
+                bits("vSpeed", 24, 8, (c, v) -> c.peps().setvSpeed(v)),//车速
+                bits("eSpeed", 32, 8, (c, v) -> c.peps().seteSpeed(v)));//电机转速
+        //HVAC_General_MSG
+        message(0x1CFF00DE, "HVAC_General_MSG", D2sCanGroup.HVAC,
+                bits("runStatus", 0, 2, (c, v) -> c.hvac().setRunStatus(v)),//空调启动状态
+                bits("hvacLevel", 2, 4, (c, v) -> c.hvac().setHvacLevel(v)),//空调风机档位
+                bits("power", 8, 16, (c, v) -> c.hvac().setPower(v)),//空调功率
+                bits("exTemp", 24, 8, -40, (c, v) -> c.hvac().setExTemp(v)),//车外温度
+                bits("innerTemp", 32, 8, -40, (c, v) -> c.hvac().setInnerTemp(v)),//车内温度
+                bits("crondDirection", 40, 3, (c, v) -> c.hvac().setCrondDirection(v)),//空调风向状态
+                bits("cirleModel", 43, 1, (c, v) -> c.hvac().setCirleModel(v)));//空调循环模式状态
+        //HVAC_FaultList_MSG
+        message(0x1CFF01DE, "HVAC_FaultList_MSG", D2sCanGroup.HVAC,
+                bits("errModel", 0, 1, (c, v) -> c.hvac().setErrModel(v)),//模式电机故障
+                bits("errTemp", 1, 1, (c, v) -> c.hvac().setErrTemp(v)),//温度电机故障
+                bits("errEvalsensor", 2, 1, (c, v) -> c.hvac().setErrEvalsensor(v)),//蒸发器传感器故障
+                bits("errTempSensor", 3, 1, (c, v) -> c.hvac().setErrTempSensor(v)));//回风温度传感器故障
+        //icu, 原实现解析后未输出
+        message(0x1CFF00DA, "icu", null);
+        //bcm BCM_General
+        message(0x0CFF00DC, "BCM_General", D2sCanGroup.BCM,
+                bits("runStatus", 0, 4, (c, v) -> c.bcm().setRunStatus(v)),//BCM运行状态（阶段）
+                bits("errLevel", 4, 2, (c, v) -> c.bcm().setErrLevel(v)),//BCM故障等级
+                bits("brakeStatus", 6, 1, (c, v) -> c.bcm().setBrakeStatus(v)),//脚刹状态
+                bits("handbrakeStatus", 7, 1, (c, v) -> c.bcm().setHandbrakeStatus(v)),//手刹是否拉起
+                bits("iscrash", 8, 1, (c, v) -> c.bcm().setIscrash(v)),//碰撞是否发生
+                bits("dc12Level", 10, 4, (c, v) -> c.bcm().setDc12Level(v)),//12V电源档位
+                real("dc12Voltage", 15, 8, 0.1f, 0.0f, 1, (c, v) -> c.bcm().setDc12Voltage(v)),//12V蓄电池电压
+                bits("errTurnLight", 23, 2, (c, v) -> c.bcm().setErrTurnLight(v)),//转向灯故障状态
+                bits("leftWinOutStatus", 25, 2, (c, v) -> c.bcm().setLeftWinOutStatus(v)),//左前玻璃升降输出状态
+                bits("rightWinOutStatus", 27, 2, (c, v) -> c.bcm().setRightWinOutStatus(v)));//右前玻璃升降输出状态
+        //bcm BCM_SysSt
+        message(0x0CFF01DC, "BCM_SysSt", D2sCanGroup.BCM,
+                bits("backWinIsHeat", 0, 1, (c, v) -> c.bcm().setBackWinIsHeat(v)),//后挡风玻璃加热是否开
+                bits("leftWinStatus", 1, 1, (c, v) -> c.bcm().setLeftWinStatus(v)),//左窗状态
+                bits("rightWinStatus", 2, 1, (c, v) -> c.bcm().setRightWinStatus(v)),//右窗状态
+                bits("isRemoteLightOn", 6, 1, (c, v) -> c.bcm().setIsRemoteLightOn(v)),//远光灯是否开
+                bits("isNeerLightOn", 7, 1, (c, v) -> c.bcm().setIsNeerLightOn(v)),//近光灯是否开
+                bits("isFrontFogOn", 8, 1, (c, v) -> c.bcm().setIsFrontFogOn(v)),//前雾灯是否开
+                bits("isBackFogOn", 9, 1, (c, v) -> c.bcm().setIsBackFogOn(v)),//后雾灯是否开
+                bits("isDrvLightOn", 10, 1, (c, v) -> c.bcm().setIsDrvLightOn(v)),//昼间行车灯是否开
+                bits("turnLightOn", 11, 2, (c, v) -> c.bcm().setTurnLightOn(v)),//转向灯转向方向
+                bits("isSmallLightOn", 15, 1, (c, v) -> c.bcm().setIsSmallLightOn(v)),//背光灯（小灯）是否开
+                bits("isReadLightOn", 16, 1, (c, v) -> c.bcm().setIsReadLightOn(v)),//室内阅读灯是否开
+                bits("isBrakeLightOn", 17, 1, (c, v) -> c.bcm().setIsBrakeLightOn(v)),//制动灯是否开
+                bits("isPosLightOn", 18, 1, (c, v) -> c.bcm().setIsPosLightOn(v)),//位置灯是否开
+                bits("isReverseLightOn", 20, 1, (c, v) -> c.bcm().setIsReverseLightOn(v)),//倒车灯是否开
+                bits("alarmStatus", 21, 3, (c, v) -> c.bcm().setAlarmStatus(v)),//防盗报警状态指示
+                bits("backDoorLockStatus", 25, 1, (c, v) -> c.bcm().setBackDoorLockStatus(v)),//后背门锁是否锁止
+                bits("leftDoorLockStatus", 26, 1, (c, v) -> c.bcm().setLeftDoorLockStatus(v)),//左前门门锁是否锁止
+                bits("rightDoorLockStatus", 27, 1, (c, v) -> c.bcm().setRightDoorLockStatus(v)),//右前门门锁是否锁止
+                bits("bcmArmStatus", 28, 1, (c, v) -> c.bcm().setBcmArmStatus(v)),
+                bits("bcmEsclPowerSupply", 29, 2, (c, v) -> c.bcm().setBcmEsclPowerSupply(v)),
+                bits("safetyBeltStatus", 32, 2, (c, v) -> c.bcm().setSafetyBeltStatus(v)),//安全带是否扣上
+                bits("isLeftDoorClose", 34, 1, (c, v) -> c.bcm().setIsLeftDoorClose(v)),//左前门是否关上
+                bits("isRightDoorClose", 35, 1, (c, v) -> c.bcm().setIsRightDoorClose(v)),//右前门是否关上
+                bits("isEmergecyLightOn", 36, 1, (c, v) -> c.bcm().setIsEmergecyLightOn(v)),//紧急灯是否开
+                bits("wiperStatus", 37, 2, (c, v) -> c.bcm().setWiperStatus(v)),//雨刮状态
+                bits("isWiperStatus", 39, 1, (c, v) -> c.bcm().setIsWiperStatus(v)),//前雨刮是否开
+                bits("isFrontHoodOn", 43, 1, (c, v) -> c.bcm().setIsFrontHoodOn(v)),//前舱盖是否开
+                bits("isBackDoorOn", 44, 1, (c, v) -> c.bcm().setIsBackDoorOn(v)),//后背门是否开
+                bits("isHornOn", 45, 1, (c, v) -> c.bcm().setIsHornOn(v)),//喇叭是否开
+                bits("isKeyVoltageLow", 54, 1, (c, v) -> c.bcm().setIsKeyVoltageLow(v)),//遥控钥匙电池电量是否低(PEPS指令)
+                bits("isBrakeStatus", 55, 3, (c, v) -> c.bcm().setIsBrakeStatus(v)));//非法入侵状况
+        //VMS_Info2
+        message(0x18C00501, "VMS_Info2", D2sCanGroup.VMS,
+                bits("motorStatus", 16, 2, (c, v) -> c.vms().setMotorStatus(v)),//电机当前状态
+                bits("isMotorTempHigh", 18, 1, (c, v) -> c.vms().setIsMotorTempHigh(v)),//电机温度是否过高
+                bits("isMotorControlerTempHigh", 19, 1, (c, v) -> c.vms().setIsMotorControlerTempHigh(v)),//电机控制器温度是否过高
+                bits("isMotorControlerErr", 20, 1, (c, v) -> c.vms().setIsMotorControlerErr(v)),//电机控制器是否故障
+                bits("outAlarmInfoNumber", 21, 2, (c, v) -> c.vms().setOutAlarmInfoNumber(v)));//动力输出报警指示
+        //VMS_Msg1
+        message(0x18C00301, "VMS_Msg1", D2sCanGroup.VMS,
+                quotient("batteryGroupCurrent", 0, 16, 10.0f, -350.0f, 1, (c, v) -> c.vms().setBatteryGroupCurrent(v)),//电池组电流
+                bits("batteryGroupVoltage", 16, 8, (c, v) -> c.vms().setBatteryGroupVoltage((float) v)),//电池组电压
+                bits("leaveBattery", 24, 8, (c, v) -> c.vms().setLeaveBattery(v)),//剩余电量
+                real("speed", 32, 8, 0.5f, 0.0f, 1, (c, v) -> c.vms().setSpeed(v)),//车速
+                bits("motorSysTemp", 40, 8, -40, (c, v) -> c.vms().setMotorSysTemp(v)),//电机系统温度
+                bits("gearStatus", 48, 2, (c, v) -> c.vms().setGearStatus(v)),//档位信息
+                bits("keyPos", 50, 2, (c, v) -> c.vms().setKeyPos(v)),//钥匙位置信息
+                bits("isAirconOpen", 53, 1, (c, v) -> c.vms().setIsAirconOpen(v)),//空调使能
+                bits("pepsStatus", 54, 1, (c, v) -> c.vms().setPepsStatus(v)),//PEPS认证状态
+                bits("isReady", 56, 8, (c, v) -> c.vms().setIsReady(v)));//READY信号
+        //vms
+        message(0x0CF10501, "vms", D2sCanGroup.VMS,
+                bits("workType", 0, 2, (c, v) -> c.vms().setWorkType(v)),
+                bits("gear", 2, 2, (c, v) -> c.vms().setGear(v)),
+                bits("brakStatus", 4, 2, (c, v) -> c.vms().setBrakStatus(v)),
+                bits("deratStatus", 8, 2, (c, v) -> c.vms().setDeratStatus(v)),
+                bits("keyPosition", 16, 2, (c, v) -> c.vms().setKeyPosition(v)),
+                bits("outchargelineConStatus", 32, 1, (c, v) -> c.vms().setOutchargelineConStatus(v)),
+                bits("tochargeConStatus", 36, 1, (c, v) -> c.vms().setTochargeConStatus(v)),
+                bits("carType", 38, 2, (c, v) -> c.vms().setCarType(v)),
+                bits("gprsLockCommand", 40, 2, (c, v) -> c.vms().setGprsLockCommand(v)),
+                bits("vmsSoc", 48, 8, (c, v) -> c.vms().setVmsSoc(v)));
+        //eps EPS_Function
+        message(0x18FF00E0, "EPS_Function", D2sCanGroup.EPS,
+                bits("errLevel", 0, 8, (c, v) -> c.eps().setErrLevel(v)),//EPS 故障等级
+                bits("isWork", 8, 8, (c, v) -> c.eps().setIsWork(v)),//EPS 工作状态
+                real("helpMoment", 16, 16, 0.1f, -25.0f, 1, (c, v) -> c.eps().setHelpMoment(v)),//EPS 助力力矩
+                real("electricity", 32, 16, 0.1f, 0.0f, 1, (c, v) -> c.eps().setElectricity(v)),//EPS 电机工作电流
+                real("voltage", 48, 8, 0.1f, 0.0f, 1, (c, v) -> c.eps().setVoltage(v)));//电源电压
+        //eps EPS_Error
+        message(0x18FF01E0, "EPS_Error", D2sCanGroup.EPS,
+                alarm("isSensorErr", 0, 1, "eps-isSensorErr", "EPS传感器故障", (c, v) -> c.eps().setIsSensorErr(v)),
+                alarm("isCurrentException", 1, 1, "eps-isCurrentException", "EPS电流异常", (c, v) -> c.eps().setIsCurrentException(v)),
+                alarm("isVoltageHigher", 2, 1, "eps-isVoltageHigher", "EPS电压过高", (c, v) -> c.eps().setIsVoltageHigher(v)),
+                alarm("isTempHigher", 3, 1, "eps-isTempHigher", "EPS温度过高", (c, v) -> c.eps().setIsTempHigher(v)),
+                alarm("isVoltageLower", 4, 1, "eps-isVoltageLower", "EPS电压过低", (c, v) -> c.eps().setIsVoltageLower(v)),
+                alarm("isInitException", 5, 1, "eps-isInitException", "EPS初始化异常", (c, v) -> c.eps().setIsInitException(v)),
+                alarm("isDriverErr", 6, 1, "eps-isDriverErr", "EPS电机驱动器故障", (c, v) -> c.eps().setIsDriverErr(v)),
+                alarm("isMotorInitErr", 7, 1, "eps-initErr", "电机初始化及轮询故障", (c, v) -> c.eps().setIsMotorInitErr(v)),
+                alarm("isAngleSensorErr", 8, 1, "eps-angSensorErr", "角度传感器故障", (c, v) -> c.eps().setIsAngleSensorErr(v)),
+                alarm("isCanCtrlErr", 9, 1, "eps-canEcuErr", "CAN控制器故障", (c, v) -> c.eps().setIsCanCtrlErr(v)),
+                alarm("isKeyInvalid", 10, 1, "eps-vspeedSignalEnable", "钥匙位置或车速信号失效", (c, v) -> c.eps().setIsKeyInvalid(v)),
+                alarm("isTempLowerLmt", 11, 1, "eps-tempSensorLower", "温度传感器超下限", (c, v) -> c.eps().setIsTempLowerLmt(v)),
+                alarm("tempSensorHigher", 12, 1, "eps-tempSensorHigher", "温度传感器超上限", (c, v) -> c.eps().setIsTempHigher(v)));//与原实现一致覆盖EPS温度过高
+        //acu ACU_SysSt, 原实现解析后未输出
+        message(0x04FF00C8, "ACU_SysSt", null);
+        //adas ADAS_Msg1
+        message(0x10FF01DF, "ADAS_Msg1", D2sCanGroup.ADAS,
+                bits("leftLaneDetected", 0, 1, (c, v) -> c.adas().setLeftLaneDetected(v)),//左车道检测
+                bits("laneDepartureLeft", 1, 1, (c, v) -> c.adas().setLaneDepartureLeft(v)),//车道偏离
+                bits("rightLaneDetected", 4, 1, (c, v) -> c.adas().setRightLaneDetected(v)),//右车道检测
+                bits("laneDpartureRight", 5, 1, (c, v) -> c.adas().setLaneDpartureRight(v)),//车道未偏离
+                bits("vehicleDecectResult", 8, 1, (c, v) -> c.adas().setVehicleDecectResult(v)),//车道检测结果
+                bits("crashTime", 16, 8, (c, v) -> c.adas().setCrashTime(v)),//碰撞时间
+                bits("errorInfo", 32, 8, (c, v) -> c.adas().setErrorInfo(v)),//错误信息
+                bits("invalidInfo", 40, 8, (c, v) -> c.adas().setInvalidInfo(v)));//无效信息
+        //BMS_GPRS_msg1
+        message(0x18C0EFF4, "BMS_GPRS_msg1", D2sCanGroup.BMS,
+                bits("totalVoltage", 0, 16, (c, v) -> c.bms().setTotalVoltage((float) v)),//总电压
+                real("totalCurrent", 16, 16, 0.1f, -350.0f, 1, (c, v) -> c.bms().setTotalCurrent(v)),//总电流
+                bits("isChargerConnected", 32, 1, (c, v) -> c.bms().setIsChargerConnected(v)),//外接充电线连接状态
+                bits("cpSignal", 33, 1, (c, v) -> c.bms().setCpSignal(v)),//cp信号
+                bits("ksStatus", 34, 1, (c, v) -> c.bms().setKsStatus(v)),//总负接触器KS状态
+                bits("s2Status", 35, 1, (c, v) -> c.bms().setS2Status(v)),
+                bits("isConnectCharger", 36, 1, (c, v) -> c.bms().setIsConnectCharger(v)),//与充电机通讯状态
+                bits("isBatteryGroupBalance", 37, 1, (c, v) -> c.bms().setIsBatteryGroupBalance(v)),//电池包均衡状态
+                bits("coldFanStatus", 38, 1, (c, v) -> c.bms().setColdFanStatus(v)),
+                bits("soc", 40, 8, (c, v) -> c.bms().setSoc(v)),//电池组当前的SOC
+                bits("batteryGroupStatus", 48, 2, (c, v) -> c.bms().setBatteryGroupStatus(v)),//电池组当前状态
+                bits("errorLevel", 50, 3, (c, v) -> c.bms().setErrorLevel(v)),
+                bits("batteryAlarmIndication", 53, 1, (c, v) -> c.bms().setBatteryAlarmIndication(v)),
+                bits("descPowerLevel", 54, 2, (c, v) -> c.bms().setDescPowerLevel(v)),
+                bits("isInsuLowest", 62, 1, (c, v) -> c.bms().setIsInsuLowest(v)));//绝缘超低
+        //BmsMsg2
+        message(0x18C0EEF4, "BmsMsg2", D2sCanGroup.BMS,
+                real("voltageHighest", 0, 16, 0.001f, 0.0f, 3, (c, v) -> c.bms().setVoltageHighest(v)),//最高单体电压
+                bits("voltageHighestNo", 16, 8, (c, v) -> c.bms().setVoltageHighestNo(v)),//最高单体电池号
+                real("voltageLowest", 0, 16, 0.001f, 0.0f, 3, (c, v) -> c.bms().setVoltageLowest(v)),//最低单体电压, 与原实现一致取最高单体电压的值
+                bits("tempHighest", 48, 8, -40, (c, v) -> c.bms().setTempHighest(v)),//最高温度点温度
+                bits("tempHighestNo", 56, 8, (c, v) -> c.bms().setTempHighestNo(v)));//最高温度点电池号
+        //单体电压-start-1
+        message(0x10C000F4, "单体电压", D2sCanGroup.BMS,
+                real("voltage[0]", 0, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(0, v)),//1#单体电池电压
+                real("voltage[1]", 9, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(1, v)),//2#单体电池电压
+                real("voltage[2]", 18, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(2, v)),//3#单体电池电压
+                real("voltage[3]", 27, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(3, v)),//4#单体电池电压
+                real("voltage[4]", 36, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(4, v)),//5#单体电池电压
+                real("voltage[5]", 45, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(5, v)),//6#单体电池电压
+                real("voltage[6]", 54, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(6, v)));//7#单体电池电压
+        //单体电压
+        message(0x14C000F4, "单体电压", D2sCanGroup.BMS,
+                real("voltage[7]", 0, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(7, v)),//8#单体电池电压
+                real("voltage[8]", 9, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(8, v)),//9#单体电池电压
+                real("voltage[9]", 18, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(9, v)),//10#单体电池电压
+                real("voltage[10]", 27, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(10, v)),//11#单体电池电压
+                real("voltage[11]", 36, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(11, v)),//12#单体电池电压
+                real("voltage[12]", 45, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(12, v)),//13#单体电池电压
+                real("voltage[13]", 54, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(13, v)));//14#单体电池电压
+        //单体电压
+        message(0x18C000F4, "单体电压", D2sCanGroup.BMS,
+                real("voltage[14]", 0, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(14, v)),//15#单体电池电压
+                real("voltage[15]", 9, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(15, v)),//16#单体电池电压
+                real("voltage[16]", 18, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(16, v)),//17#单体电池电压
+                real("voltage[17]", 27, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(17, v)),//18#单体电池电压
+                real("voltage[18]", 36, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(18, v)),//19#单体电池电压
+                real("voltage[19]", 45, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(19, v)),//20#单体电池电压
+                real("voltage[20]", 54, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(20, v)));//21#单体电池电压
+        //单体电压
+        message(0x1CC000F4, "单体电压", D2sCanGroup.BMS,
+                real("voltage[21]", 0, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(21, v)),//22#单体电池电压
+                real("voltage[22]", 9, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(22, v)),//23#单体电池电压
+                real("voltage[23]", 18, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(23, v)),//24#单体电池电压
+                real("voltage[24]", 27, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(24, v)),//25#单体电池电压
+                real("voltage[25]", 36, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(25, v)),//26#单体电池电压
+                real("voltage[26]", 45, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(26, v)),//27#单体电池电压
+                real("voltage[27]", 54, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(27, v)));//28#单体电池电压
+        //单体电压
+        message(0x1CC007F4, "单体电压", D2sCanGroup.BMS,
+                real("voltage[28]", 0, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(28, v)),//29#单体电池电压
+                real("voltage[29]", 9, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(29, v)),//30#单体电池电压
+                real("voltage[30]", 18, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(30, v)),//31#单体电池电压
+                real("voltage[31]", 27, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(31, v)),//32#单体电池电压
+                real("voltage[32]", 36, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(32, v)),//33#单体电池电压
+                real("voltage[33]", 45, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(33, v)),//34#单体电池电压
+                real("voltage[34]", 54, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(34, v)));//35#单体电池电压
+        //单体电压-end-6
+        message(0x1CC008F4, "单体电压", D2sCanGroup.BMS,
+                real("voltage[35]", 0, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(35, v)),//36#单体电池电压
+                real("voltage[36]", 9, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(36, v)),//37#单体电池电压
+                real("voltage[37]", 18, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(37, v)),//38#单体电池电压
+                real("voltage[38]", 27, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(38, v)),//39#单体电池电压
+                real("voltage[39]", 36, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(39, v)),//40#单体电池电压
+                real("voltage[40]", 45, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(40, v)),//41#单体电池电压
+                real("voltage[41]", 54, 9, 0.01f, 0.0f, 2, (c, v) -> c.voltage(41, v)));//42#单体电池电压
+        //BMS_Error
+        message(0x18FF05F4, "BMS_Error", D2sCanGroup.BMS,
+                bits("sellVolHighestChargerl4", 0, 1, (c, v) -> c.bms().setSellVolHighestChargerl4(v)),//单体电压超高-充电-4级
+                bits("sellVolHighestFbl3", 1, 1, (c, v) -> c.bms().setSellVolHighestFbl3(v)),//单体电压超高-回馈-3级
+                bits("sellVolHighestL3", 2, 1, (c, v) -> c.bms().setSellVolHighestL3(v)),//单体电压超高-3级
+                bits("totalVolHighestChargerl4", 3, 1, (c, v) -> c.bms().setTotalVolHighestChargerl4(v)),//总电压超高-充电-4级
+                bits("totalVolHighestFbl3", 4, 1, (c, v) -> c.bms().setTotalVolHighestFbl3(v)),//总电压超高-回馈-3级
+                bits("totalVolHighestl3", 5, 1, (c, v) -> c.bms().setTotalVolHighestl3(v)),//总电压超高-3级
+                bits("sellVolLowerl1", 6, 1, (c, v) -> c.bms().setSellVolLowerl1(v)),//单体电压过低-1级降功率
+                bits("sellVolLowerl2", 7, 1, (c, v) -> c.bms().setSellVolLowerl2(v)),//单体电压过低-2级降功率
+                bits("sellVolLowerl3", 8, 1, (c, v) -> c.bms().setSellVolLowerl3(v)),//单体电压过低-3级降功率
+                bits("totalVolLowerl1", 9, 1, (c, v) -> c.bms().setTotalVolLowerl1(v)),//总电压过低-1级降功率
+                bits("totalVolLowerl2", 10, 1, (c, v) -> c.bms().setTotalVolLowerl2(v)),//总电压过低-2级降功率
+                bits("totalVolLowerl3", 5, 1, (c, v) -> c.bms().setTotalVolLowerl3(v)),//总电压过低-3级, 与原实现一致取bit5
+                bits("sellVolLowestl3", 12, 1, (c, v) -> c.bms().setSellVolLowestl3(v)),//单体电压超低-3级
+                bits("sellVolLowestl4", 13, 1, (c, v) -> c.bms().setSellVolLowestl4(v)),//单体电压超低-4级
+                bits("sellVolLowestCharger", 14, 1, (c, v) -> c.bms().setSellVolLowestCharger(v)),//单体电压超低-充电
+                bits("totalVolLowestl4", 16, 1, (c, v) -> c.bms().setTotalVolLowestl4(v)),//总电压超低-4级
+                bits("totalVolLowestCharger", 17, 1, (c, v) -> c.bms().setTotalVolLowestCharger(v)),//总电压超低-充电
+                bits("volPlusBiggerl1", 18, 1, (c, v) -> c.bms().setVolPlusBiggerl1(v)),//压差过大-1级降功率
+                bits("volPlusBiggerl2", 19, 1, (c, v) -> c.bms().setVolPlusBiggerl2(v)),//压差过大-2级降功率
+                bits("volPlusBiggerl3", 20, 1, (c, v) -> c.bms().setVolPlusBiggerl3(v)),//压差过大-3级降功率
+                bits("socLowerl1", 21, 1, (c, v) -> c.bms().setSocLowerl1(v)),//SOC过低-1级降功率
+                bits("socLowerl2", 22, 1, (c, v) -> c.bms().setSocLowerl2(v)),//SOC过低-2级降功率
+                bits("socLowerl3", 23, 1, (c, v) -> c.bms().setSocLowerl3(v)),//SOC过低-3级降功率
+                bits("dischargerCurrentBiggerl1", 24, 1, (c, v) -> c.bms().setDischargerCurrentBiggerl1(v)),//放电电流过大-1级降功率
+                bits("dischargerCurrentBiggerl2", 25, 1, (c, v) -> c.bms().setDischargerCurrentBiggerl2(v)),//放电电流过大-2级降功率
+                bits("dischargerCurrentBiggerl3", 26, 1, (c, v) -> c.bms().setDischargerCurrentBiggerl3(v)),//放电电流过大-3级降功率
+                bits("dischargerCurrentBiggestl3", 27, 1, (c, v) -> c.bms().setDischargerCurrentBiggestl3(v)),//放电电流超大-3级
+                bits("chargerCurrentBiggestl3", 28, 1, (c, v) -> c.bms().setChargerCurrentBiggestl3(v)),//充电电流超大-3级
+                bits("chargerCurrentBiggestl4", 29, 1, (c, v) -> c.bms().setChargerCurrentBiggestl4(v)),//充电电流超大-4级
+                bits("feedbackCurrentBiggestl3", 30, 1, (c, v) -> c.bms().setFeedbackCurrentBiggestl3(v)),//回馈电流超大-3级
+                bits("feedbackCurrentBiggestl4", 31, 1, (c, v) -> c.bms().setFeedbackCurrentBiggestl4(v)),//回馈电流超大-4级
+                bits("tempratureHigherl1", 32, 1, (c, v) -> c.bms().setTempratureHigherl1(v)),//温度过高-1级降功率
+                bits("tempratureHigherl2", 33, 1, (c, v) -> c.bms().setTempratureHigherl2(v)),//温度过高-2级降功率
+                bits("tempratureHigherl3", 34, 1, (c, v) -> c.bms().setTempratureHigherl3(v)),//温度过高-3级降功率
+                bits("tempratureOverHighl3", 35, 1, (c, v) -> c.bms().setTempratureHigherl3(v)),//温度超高-3级, 与原实现一致覆盖温度过高-3级
+                bits("tempratureHighestl4", 36, 1, (c, v) -> c.bms().setTempratureHighestl4(v)),//温度超高-4级
+                bits("heatMoTempratureHighest", 37, 1, (c, v) -> c.bms().setHeatMoTempratureHighest(v)),//加热膜温度超高
+                bits("tempLowerl1", 38, 1, (c, v) -> c.bms().setTempLowerl1(v)),//温度过低-1级降功率
+                bits("tempLowerl2", 33, 1, (c, v) -> c.bms().setTempLowerl2(v)),//温度过低-2级降功率, 与原实现一致取bit33
+                bits("tempLowerl3", 40, 1, (c, v) -> c.bms().setTempLowerl3(v)),//温度过低-3级降功率
+                bits("tempLowestl3", 35, 1, (c, v) -> c.bms().setTempLowestl3(v)),//温度超低-3级, 与原实现一致取bit35
+                bits("tempPlusHigherl1", 42, 1, (c, v) -> c.bms().setTempPlusHigherl1(v)),//温差过高-1级降功率
+                bits("tempPlusHigherl2", 43, 1, (c, v) -> c.bms().setTempPlusHigherl2(v)),//温差过高-2级降功率
+                bits("tempPlusHigherl3", 44, 1, (c, v) -> c.bms().setTempPlusHigherl3(v)),//温差过高-3级降功率
+                bits("tempRiseSpeedBiggerl2", 45, 1, (c, v) -> c.bms().setTempRiseSpeedBiggerl2(v)),//温升速率过高-2级降功率
+                bits("tempRiseSpeedBiggestl4", 46, 1, (c, v) -> c.bms().setTempRiseSpeedBiggestl4(v)),//温升速率超高-4级
+                bits("insuLowl1", 47, 1, (c, v) -> c.bms().setInsuLowl1(v)),//绝缘过低-1级
+                bits("insuLowl2", 48, 1, (c, v) -> c.bms().setInsuLowl2(v)),//绝缘过低-2级降功率
+                bits("insuLowl4", 49, 1, (c, v) -> c.bms().setInsuLowl4(v)),//绝缘超低-4级
+                bits("chargeTimeLong", 50, 1, (c, v) -> c.bms().setChargeTimeLong(v)),//充电时间超长
+                bits("heatTimeLong", 51, 1, (c, v) -> c.bms().setHeatTimeLong(v)),//加热时间超长
+                bits("bmsSysErr", 52, 1, (c, v) -> c.bms().setBmsSysErr(v)),//BMS系统故障
+                bits("chargerNetErr", 53, 1, (c, v) -> c.bms().setChargerNetErr(v)),//与充电机通讯故障
+                bits("volDisconnectl4", 54, 1, (c, v) -> c.bms().setVolDisconnectl4(v)),//电压采集断开-4级
+                bits("volDisconnectl2", 55, 1, (c, v) -> c.bms().setVolDisconnectl2(v)),//电压采集断开-2级降功率
+                bits("tempDisconnectl4", 56, 1, (c, v) -> c.bms().setTempDisconnectl4(v)),//温度采集断开-4级
+                bits("tempDisconnectl2", 57, 1, (c, v) -> c.bms().setTempDisconnectl2(v)),//温度采集断开-2级降功率
+                bits("heatErr", 58, 1, (c, v) -> c.bms().setHeatErr(v)),//加热故障
+                bits("negErrClose", 59, 1, (c, v) -> c.bms().setNegErrClose(v)),//负极接触器故障：不能闭合
+                bits("negErrPaste", 60, 1, (c, v) -> c.bms().setNegErrPaste(v)));//负极接触器故障：粘连
+        //探头温度
+        message(0x04C000F4, "探头温度", D2sCanGroup.BMS,
+                bits("temperature[0]", 0, 8, -40, (c, v) -> c.temperature(0, v)),//1#探头温度
+                bits("temperature[1]", 8, 8, -40, (c, v) -> c.temperature(1, v)),//2#探头温度
+                bits("temperature[2]", 16, 8, -40, (c, v) -> c.temperature(2, v)),//3#探头温度
+                bits("temperature[3]", 24, 8, -40, (c, v) -> c.temperature(3, v)),//4#探头温度
+                bits("temperature[4]", 32, 8, -40, (c, v) -> c.temperature(4, v)),//5#探头温度
+                bits("temperature[5]", 40, 8, -40, (c, v) -> c.temperature(5, v)),//6#探头温度
+                bits("temperature[6]", 48, 8, -40, (c, v) -> c.temperature(6, v)),//7#探头温度
+                bits("temperature[7]", 56, 8, -40, (c, v) -> c.temperature(7, v)));//8#探头温度
+        //探头温度
+        message(0x08C000F4, "探头温度", D2sCanGroup.BMS,
+                bits("temperature[8]", 0, 8, -40, (c, v) -> c.temperature(8, v)),//9#探头温度
+                bits("temperature[9]", 8, 8, -40, (c, v) -> c.temperature(9, v)),//10#探头温度
+                bits("temperature[10]", 16, 8, -40, (c, v) -> c.temperature(10, v)),//11#探头温度
+                bits("temperature[11]", 24, 8, -40, (c, v) -> c.temperature(11, v)),//12#探头温度
+                bits("bmsError", 56, 8, (c, v) -> c.bms().setBmsError(v)));//BMS故障码
+        //BMS_charger
+        message(0x1806E5F4, "BMS_charger", D2sCanGroup.BMS,
+                real("alowableVoltage", 0, 16, 0.1f, 0.0f, 1, (c, v) -> c.bms().setAlowableVoltage(v)),//最高允许充电端电压
+                real("alowableCurrent", 16, 16, 0.1f, 0.0f, 1, (c, v) -> c.bms().setAlowableCurrent(v)),//最高允许充电电流
+                bits("loadType", 40, 1, (c, v) -> c.bms().setLoadType(v)),//负载类型
+                bits("heaterStatus", 41, 1, (c, v) -> c.bms().setHeaterStatus(v)),//加热继电器状态
+                bits("chargerCount", 48, 12, (c, v) -> c.bms().setChargerCount(v)));//充电次数
+        //BMS_power
+        message(0x18FF01F4, "BMS_power", D2sCanGroup.BMS,
+                bits("discharge10SPower", 0, 16, (c, v) -> c.bms().setDischarge10SPower(v)),//动力电池包 10s 最大充电功率
+                bits("discharge30SPower", 16, 16, (c, v) -> c.bms().setDischarge30SPower(v)),//动力电池包 30s 最大放电功率
+                bits("dischargeMaximumPower", 32, 16, (c, v) -> c.bms().setDischargeMaximumPower(v)),//动力电池包持续最大放电功率
+                bits("dischargeMaximumCurrent", 48, 16, (c, v) -> c.bms().setDischargeMaximumCurrent(v)));//动力电池包最大放电电流限值
+        //BMS_chargerpower
+        message(0x18FF02F4, "BMS_chargerpower", D2sCanGroup.BMS,
+                bits("charge10SPower", 0, 16, (c, v) -> c.bms().setCharge10SPower(v)),//动力电池包
+                bits("charge30SPower", 16, 16, (c, v) -> c.bms().setCharge30SPower(v)),//动力电池包
+                bits("chargeMaximumPower", 32, 16, (c, v) -> c.bms().setChargeMaximumPower(v)),//动力电池包持续最大充电功率
+                bits("chargeMaximumCurrent", 48, 16, -350, (c, v) -> c.bms().setChargeMaximumCurrent(v)));//动力电池包最大充电电流限值
+        //MC_VMS1
+        message(0x0CF11F05, "MC_VMS1", D2sCanGroup.MC,
+                bits("muStatus", 0, 2, (c, v) -> c.mc().setMuStatus(v)),//电机控制器状态
+                bits("runStatus", 2, 2, (c, v) -> c.mc().setRunStatus(v)),//电机控制器工作状态
+                bits("temStatus", 4, 2, (c, v) -> c.mc().setTemStatus(v)),//温度状态
+                bits("voltageStatus", 6, 2, (c, v) -> c.mc().setVoltageStatus(v)),//母线电压状态
+                real("voltageRange", 8, 8, 0.5f, 0.0f, 1, (c, v) -> c.mc().setVoltageRange(v)),//母线电压
+                bits("motorTemprature", 16, 8, -40, (c, v) -> c.mc().setMotorTemprature(v)),//电机温度
+                bits("mcTemprature", 24, 8, -40, (c, v) -> c.mc().setMcTemprature(v)),//控制器温度
+                bits("motorRpm", 32, 16, (c, v) -> c.mc().setMotorRpm(v)),//电机转速
+                real("motorCurrent", 48, 16, 0.5f, 0.0f, 1, (c, v) -> c.mc().setMotorCurrent(v)));//电机相电流
+        //MC_Info1
+        message(0x0CF12F05, "MC_Info1", D2sCanGroup.MC,
+                bits("aprRate", 0, 8, (c, v) -> c.mc().setAprRate(v)),//加速踏板开度
+                bits("mcNm", 8, 8, -120, (c, v) -> c.mc().setMcNm((float) v)),//电机控制器当前估计扭矩
+                bits("busCurrent", 16, 16, -350, (c, v) -> c.mc().setBusCurrent((float) v)),//母线电流
+                bits("brakeRate", 32, 8, (c, v) -> c.mc().setBrakeRate(v)),//制动踏板开度
+                bits("carType", 46, 2, (c, v) -> c.mc().setCarType(v)),//车型类别
+                bits("isCurrentOut", 48, 1, (c, v) -> c.mc().setIsCurrentOut(v)),//任一相电流是否过流
+                bits("isBusCurrentOut", 49, 1, (c, v) -> c.mc().setIsBusCurrentOut(v)),//直流母线是否过流
+                bits("isMotorRpmOut", 50, 1, (c, v) -> c.mc().setIsMotorRpmOut(v)),//电机转速超过限值
+                bits("isHolzerError", 51, 1, (c, v) -> c.mc().setIsHolzerError(v)),//霍尔故障
+                bits("isAprError", 52, 1, (c, v) -> c.mc().setIsAprError(v)),//加速踏板故障
+                bits("isGeerError", 53, 1, (c, v) -> c.mc().setIsGeerError(v)),//档位输入故障
+                bits("motorLife", 56, 8, (c, v) -> c.mc().setMotorLife(v)));//Life 值
+        //MC_Error
+        message(0x0CF13F05, "MC_Error", D2sCanGroup.MC,
+                bits("busCurrentSensorError", 0, 1, (c, v) -> c.mc().setBusCurrentSensorError(v)),//母线电流传感器故障
+                bits("phaseCurrentSensorError", 1, 1, (c, v) -> c.mc().setPhaseCurrentSensorError(v)),//相线电流传感器故障
+                bits("busVolSensorError", 0, 1, (c, v) -> c.mc().setBusVolSensorError(v)),//母线电压传感器故障, 与原实现一致取bit0
+                bits("controlTempSensorError", 3, 1, (c, v) -> c.mc().setControlTempSensorError(v)),//控制器温度传感器故障
+                bits("mTempSensorError", 4, 1, (c, v) -> c.mc().setmTempSensorError(v)),//电机温度传感器故障
+                bits("rotaryTransformerError", 5, 1, (c, v) -> c.mc().setRotaryTransformerError(v)),//旋转变压器故障
+                bits("controlTempError", 6, 1, (c, v) -> c.mc().setControlTempError(v)),//控制器温度报警
+                bits("controlOuttempError", 7, 1, (c, v) -> c.mc().setControlOuttempError(v)),//控制器过温故障
+                bits("mTempAlarm", 8, 1, (c, v) -> c.mc().setmTempAlarm(v)),//电机温度报警
+                bits("mOuttempError", 9, 1, (c, v) -> c.mc().setmOuttempError(v)),//电机过温故障
+                bits("busOutcurrent", 10, 1, (c, v) -> c.mc().setBusOutcurrent(v)),//母线过流（短路）
+                bits("busOutvolAlarm", 11, 1, (c, v) -> c.mc().setBusOutvolAlarm(v)),//母线过压报警
+                bits("busOutvolError", 12, 1, (c, v) -> c.mc().setBusOutvolError(v)),//母线过压故障
+                bits("busUpdervolAlarm", 13, 1, (c, v) -> c.mc().setBusUpdervolAlarm(v)),//母线欠压报警
+                bits("busUpdervolError", 14, 1, (c, v) -> c.mc().setBusUpdervolError(v)),//母线欠压故障
+                bits("controlUpdervolError", 15, 1, (c, v) -> c.mc().setControlUpdervolError(v)),//控制电欠压故障
+                bits("controlOutvolError", 16, 1, (c, v) -> c.mc().setControlOutvolError(v)),//控制电过压故障
+                bits("phaseOutcurrent", 17, 1, (c, v) -> c.mc().setPhaseOutcurrent(v)),//相线过流
+                bits("mOutspeedAlarm", 18, 1, (c, v) -> c.mc().setmOutspeedAlarm(v)),//电机超速报警
+                bits("mOutspeedError", 19, 1, (c, v) -> c.mc().setmOutspeedError(v)),//电机超速故障
+                bits("perchargeError", 20, 1, (c, v) -> c.mc().setPerchargeError(v)),//预充电故障
+                bits("pedalPersamplingError", 21, 1, (c, v) -> c.mc().setPedalPersamplingError(v)),//加速踏板预采样故障
+                bits("canCommunicationError", 22, 1, (c, v) -> c.mc().setCanCommunicationError(v)),//CAN总线通讯故障
+                bits("errorLevel", 23, 3, (c, v) -> c.mc().setErrorLevel(v)),//故障等级
+                bits("deratingLevel", 26, 2, (c, v) -> c.mc().setDeratingLevel(v)),//降功率等级
+                bits("powerOutStatus", 28, 2, (c, v) -> c.mc().setPowerOutStatus(v)),//动力输出状态
+                bits("supplierCode", 56, 8, (c, v) -> c.mc().setSupplierCode(Integer.toBinaryString(v))));//供应商配置代码
+        //obc CHARGER_BMS
+        message(0x18FF50E5, "CHARGER_BMS", D2sCanGroup.OBC,
+                real("outVoltage", 0, 16, 0.1f, 0.0f, 1, (c, v) -> c.obc().setOutVoltage(v)),//充电机输出电压
+                real("outCurrent", 16, 16, 0.1f, 0.0f, 1, (c, v) -> c.obc().setOutCurrent(v)),//充电机输出电流
+                bits("isHardErr", 32, 1, (c, v) -> c.obc().setIsHardErr(v)),//硬件故障
+                bits("isTempHigh", 33, 1, (c, v) -> c.obc().setIsTempHigh(v)),//充电机温度状态
+                bits("isVoltageErr", 34, 1, (c, v) -> c.obc().setIsVoltageErr(v)),//输入电压状态
+                bits("isRunning", 35, 1, (c, v) -> c.obc().setIsRunning(v)),//启动状态
+                bits("isCommected", 36, 1, (c, v) -> c.obc().setIsCommected(v)),//通信状态
+                bits("isReady", 37, 1, (c, v) -> c.obc().setIsReady(v)));//充电准备就绪
+        //obc ObcSt1
+        message(0x18FF51E5, "ObcSt1", D2sCanGroup.OBC,
+                bits("inVoltage", 0, 9, (c, v) -> c.obc().setInVoltage((float) v)),//输入电压
+                real("inCurrent", 9, 9, 0.1f, 0.0f, 1, (c, v) -> c.obc().setInCurrent(v)),//输入电流
+                bits("pfcVoltage", 18, 9, (c, v) -> c.obc().setPfcVoltage((float) v)),//PFC电压
+                real("v12Voltage", 32, 8, 0.1f, 0.0f, 1, (c, v) -> c.obc().setV12Voltage(v)),//12V输出电压
+                real("v12Current", 40, 6, 0.1f, 0.0f, 1, (c, v) -> c.obc().setV12Current(v)));//12V输出电流
+        //OBC_St2
+        message(0x18FF52E5, "OBC_St2", D2sCanGroup.OBC,
+                bits("temprature1", 0, 8, -50, (c, v) -> c.obc().setTemprature1(v)),//温度1
+                bits("temprature2", 8, 8, -50, (c, v) -> c.obc().setTemprature2(v)),//温度2
+                bits("temprature3", 16, 8, -50, (c, v) -> c.obc().setTemprature3(v)),//温度3
+                bits("fanStatus", 24, 2, (c, v) -> c.obc().setFanStatus(v)),//风扇状态
+                bits("chargerStatus", 26, 2, (c, v) -> c.obc().setChargerStatus(v)),//充电状态
+                bits("tempratureError", 28, 2, (c, v) -> c.obc().setTempratureError(v)),//充电机温度异常监控
+                bits("inUpdervoltage1", 32, 1, (c, v) -> c.obc().setInUpdervoltage1(v)),//输入欠压1
+                bits("inUpdervoltage2", 33, 1, (c, v) -> c.obc().setInUpdervoltage2(v)),//输入欠压2
+                bits("inOutvoltage", 34, 1, (c, v) -> c.obc().setInOutvoltage(v)),//输入过压
+                bits("highvolOutOutdervol", 35, 1, (c, v) -> c.obc().setHighvolOutOutdervol(v)),//高压输出欠压
+                bits("highvolOutOvervol", 36, 1, (c, v) -> c.obc().setHighvolOutOutdervol(v)),//高压输出过压, 与原实现一致覆盖高压输出欠压
+                bits("outOutcurrent", 37, 1, (c, v) -> c.obc().setOutOutcurrent(v)),//输出过流
+                bits("pfcVolError", 39, 1, (c, v) -> c.obc().setPfcVolError(v)),//PFC电压异常
+                bits("v12OutvolError", 40, 1, (c, v) -> c.obc().setV12OutvolError(v)),//充电机12V过压异常
+                bits("v12UpdervolError", 41, 1, (c, v) -> c.obc().setV12UpdervolError(v)));//充电机12V欠压异常
+    }
+
+    private D2sCanSignalDb() {
+    }
+
+    /**
+     * @param canId CAN ID
+     * @return 报文定义, 信号表中没有该CAN ID时为null
+     */
+    static Message message(int canId) {
+        return MESSAGES.get(canId);
+    }
+
+    /**
+     * 按信号表解析一条CAN报文, 赋值到解析上下文的数据对象
+     *
+     * @param canId   CAN ID
+     * @param bit64   CAN数据(小端)
+     * @param context 解析上下文
+     * @return false-信号表中没有该CAN ID
+     */
+    static boolean decode(int canId, long bit64, D2sCanContext context) {
+        Message message = MESSAGES.get(canId);
+        if (null == message) {
+            return false;
+        }
+        //打印调试信息
+        D2sDataPackUtil.debug(() -> message.name + String.format("[0x%08X]--->", canId)
+                + String.format("%016x", Long.reverseBytes(bit64)));
+
+        //报警信号同时生成报警数据
+        List<DataPackAlarm.Alarm> alarmList = null;
+        DataPackAlarm alarmEps = message.alarm ? context.alarmEps() : null;
+        if (null != alarmEps) {
+            alarmList = new ArrayList<>();
+            if (null != context.position) {
+                alarmEps.setPosition(context.position);
+            }
+        }
+
+        for (Signal signal : message.signals) {
+            if (null != alarmList && null != signal.alarmCode) {
+                DataPackAlarm.Alarm alarmInfo = new DataPackAlarm.Alarm();
+                alarmInfo.setAlarmCode(signal.alarmCode);
+                alarmInfo.setAlarmName(signal.alarmName);
+                alarmInfo.setAlarmValue(String.valueOf(signal.raw(bit64)));
+                alarmList.add(alarmInfo);
+            }
+            signal.decode(bit64, context);
+        }
+
+        if (null != alarmList) {
+            alarmEps.setAlarmList(alarmList);
+        }
+        return true;
+    }
+
+    /**
+     * 按信号表解析一条CAN报文, 依次回调各信号
+     *
+     * @param message   报文定义
+     * @param bit64     CAN数据(小端)
+     * @param visitor   信息单元回调
+     * @param withAlarm 是否回调报警信号
+     */
+    static void visit(Message message, long bit64, D2sUnitVisitor visitor, boolean withAlarm) {
+        Signal[] signals = message.signals;
+        for (int i = 0; i < signals.length; i++) {
+            Signal signal = signals[i];
+            long raw = signal.raw(bit64);
+            D2sCanSignal descriptor = message.descriptors[i];
+            if (withAlarm && null != signal.alarmCode) {
+                visitor.onAlarm(descriptor, raw);
+            }
+            if (null != signal.intSetter) {
+                visitor.onCanSignal(descriptor, (int) raw + signal.intOffset);
+            } else {
+                visitor.onCanSignal(descriptor, signal.value(raw));
+            }
+        }
+    }
+
+    /**
+     * 有信号的报文CAN ID, 见 {@link D2sCanGroup#getCanIds()}
+     *
+     * @param group ECU分组
+     * @return CAN ID
+     */
+    static int[] canIds(D2sCanGroup group) {
+        List<Integer> canIds = GROUP_CAN_IDS.get(group);
+        int[] result = new int[null == canIds ? 0 : canIds.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = canIds.get(i);
+        }
+        return result;
+    }
+
+    private static void message(int canId, String name, D2sCanGroup group, Signal... signals) {
+        long bit = 0;
+        if (null != group && 0 < signals.length) {
+            List<Integer> canIds = GROUP_CAN_IDS.computeIfAbsent(group, g -> new ArrayList<>());
+            if (canIds.size() >= Long.SIZE) {
+                throw new IllegalStateException(group + "报文数超过" + Long.SIZE);
+            }
+            bit = 1L << canIds.size();
+            canIds.add(canId);
+        }
+        MESSAGES.put(canId, new Message(canId, name, group, bit, signals));
+    }
+
+    /**
+     * 整数信号
+     */
+    private static Signal bits(String name, int startBit, int length, IntSetter setter) {
+        return bits(name, startBit, length, 0, setter);
+    }
+
+    /**
+     * 带偏移量的整数信号
+     */
+    private static Signal bits(String name, int startBit, int length, int offset, IntSetter setter) {
+        return new Signal(name, startBit, length, offset, 1.0f, false, 0.0f, 0,
+                null, null, setter, null);
+    }
+
+    /**
+     * 浮点信号, 原始值 * factor + offset, 保留 scale 位小数
+     */
+    private static Signal real(String name, int startBit, int length, float factor, float offset, int scale,
+                               FloatSetter setter) {
+        return new Signal(name, startBit, length, 0, factor, false, offset, scale,
+                null, null, null, setter);
+    }
+
+    /**
+     * 浮点信号, 原始值 / divisor + offset, 保留 scale 位小数
+     */
+    private static Signal quotient(String name, int startBit, int length, float divisor, float offset, int scale,
+                                   FloatSetter setter) {
+        return new Signal(name, startBit, length, 0, divisor, true, offset, scale,
+                null, null, null, setter);
+    }
+
+    /**
+     * 报警信号, 同时生成报警数据
+     */
+    private static Signal alarm(String name, int startBit, int length, String alarmCode, String alarmName,
+                                IntSetter setter) {
+        return new Signal(name, startBit, length, 0, 1.0f, false, 0.0f, 0,
+                alarmCode, alarmName, setter, null);
+    }
+}
@@ -0,0 +1,266 @@
+package com.incarcloud.rooster.datapack;
+
+import com.incarcloud.rooster.gather.cmd.CommandType;
+import com.incarcloud.rooster.util.D2sDataPackUtil;
+import com.incarcloud.rooster.util.D2sTimeCodec;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * D2S下行命令表
+ * <p>
+ * 每种命令类型对应一条命令定义(命令标识、控制指令ID、参数格式), 类加载时编译为字节模板:
+ * 消息头+时间+流水号+固定的数据单元。生成命令时先校验参数, 再复制模板并追加可变参数,
+ * 不再逐个 case 设置命令标识和添加字节。
+ */
+final class D2sCommandTable {
+
+    /**
+     * 命令消息头长度: 消息头24字节+时间6字节+流水号2字节
+     */
+    static final int COMMAND_HEADER_LENGTH = D2sFrameWriter.HEADER_LENGTH + 8;
+
+    /**
+     * 可变参数格式
+     */
+    enum Layout {
+        /**
+         * 无可变参数
+         */
+        NONE {
+            @Override
+            void check(CommandType type, Object[] args) {
+            }
+
+            @Override
+            int length(Object[] args) {
+                return 0;
+            }
+
+            @Override
+            void write(ByteBuf commandBuf, Object[] args) {
+            }
+        },
+        /**
+         * 空调控制: 设置时间(2字节, 单位1s) + 温度设定(1字节, 单位1℃)
+         */
+        CONDITION {
+            @Override
+            void check(CommandType type, Object[] args) {
+                if (args.length < 3 || !(args[1] instanceof Integer) || !(args[2] instanceof Integer)) {
+                    throw new IllegalArgumentException(type + "需要设置时间和温度参数!");
+                }
+            }
+
+            @Override
+            int length(Object[] args) {
+                return 3;
+            }
+
+            @Override
+            void write(ByteBuf commandBuf, Object[] args) {
+                //设置时间-最小计量单元： 1s 默认： 600S
+                commandBuf.writeBytes(D2sDataPackUtil.getIntegerBytes((Integer) args[1], 2));
+                //温度设定-最小计量单元： 1℃ 默认： 20摄氏度
+                commandBuf.writeByte(D2sDataPackUtil.getIntegerByte((Integer) args[2]));
+            }
+        },
+        /**
+         * 远程升级: 配置字符串
+         */
+        CONFIG {
+            @Override
+            void check(CommandType type, Object[] args) {
+                if (args.length < 2 || !(args[1] instanceof String)) {
+                    throw new IllegalArgumentException(type + "需要升级配置参数!");
+                }
+            }
+
+            @Override
+            int length(Object[] args) {
+                return ((String) args[1]).length() * 3;
+            }
+
+            @Override
+            void write(ByteBuf commandBuf, Object[] args) {
+                commandBuf.writeBytes(((String) args[1]).getBytes());
+            }
+        },
+        /**
+         * 参数查询/设置时间, 与消息头中的时间相同
+         */
+        TIME {
+            @Override
+            void check(CommandType type, Object[] args) {
+            }
+
+            @Override
+            int length(Object[] args) {
+                return D2sTimeCodec.LENGTH;
+            }
+
+            @Override
+            void write(ByteBuf commandBuf, Object[] args) {
+                commandBuf.writeBytes(commandBuf, commandBuf.readerIndex() + D2sFrameWriter.HEADER_LENGTH,
+                        D2sTimeCodec.LENGTH);
+            }
+        };
+
+        /**
+         * 校验参数
+         *
+         * @param type 命令类型
+         * @param args 命令参数
+         */
+        abstract void check(CommandType type, Object[] args);
+
+        /**
+         * 可变参数长度(估计值, 用于分配缓冲区)
+         *
+         * @param args 命令参数
+         * @return 字节数
+         */
+        abstract int length(Object[] args);
+
+        /**
+         * 写入可变参数
+         *
+         * @param commandBuf 命令缓冲区
+         * @param args       命令参数
+         */
+        abstract void write(ByteBuf commandBuf, Object[] args);
+    }
+
+    /**
+     * 命令定义
+     */
+    static final class Command {
+        final CommandType type;
+        /**
+         * 消息头+时间+流水号+固定的数据单元
+         */
+        final byte[] template;
+        final Layout layout;
+
+        Command(CommandType type, byte[] template, Layout layout) {
+            this.type = type;
+            this.template = template;
+            this.layout = layout;
+        }
+
+        /**
+         * 校验参数并生成命令
+         *
+         * @param allocator 缓冲区分配器
+         * @param iccid     设备号(ICCID), 17字节
+         * @param args      命令参数
+         * @return 命令数据
+         */
+        ByteBuf encode(ByteBufAllocator allocator, byte[] iccid, Object[] args) {
+            layout.check(type, args);
+            ByteBuf commandBuf = D2sFrameWriter.begin(allocator, template,
+                    template.length + layout.length(args) + 1, iccid, 0);
+            layout.write(commandBuf, args);
+            return D2sFrameWriter.finish(commandBuf);
+        }
+    }
+
+    /**
+     * 未定义的命令类型, 只有消息头、时间和流水号
+     */
+    private static final Command UNDEFINED = new Command(null,
+            D2sFrameWriter.template(0xFF, 0xFF, COMMAND_HEADER_LENGTH), Layout.NONE);
+
+    private static final Map<CommandType, Command> COMMANDS = new EnumMap<>(CommandType.class);
+
+    static {
+        //车辆控制命令
+        vehicle(CommandType.OPEN_DOOR, 0x01, 0x01);//打开车门-开锁
+        vehicle(CommandType.CLOSE_DOOR, 0x01, 0x02);//关闭车门-落锁
+        vehicle(CommandType.BACK_DOOR_UNLOCK, 0x02, 0x01);//远程后备箱解锁-后备箱开
+        vehicle(CommandType.FIND_CAR, 0x03, 0x01);//远程寻车
+        vehicle(CommandType.LEFT_WIN_UP, 0x04, 0x01);//左前车窗控制-上升
+        vehicle(CommandType.LEFT_WIN_DOWN, 0x04, 0x02);//左前车窗控制-下降
+        vehicle(CommandType.RIGHT_WIN_UP, 0x05, 0x01);//右前车窗控制-上升
+        vehicle(CommandType.RIGHT_WIN_DOWN, 0x05, 0x02);//右前车窗控制-下降
+        //空调控制, 指令参数长度与原实现一致为4, 实际参数为3个字节
+        condition(CommandType.COND_HEAT_OPEN, 0x06);//空调系统制热控制-开启
+        condition(CommandType.COND_HEAT_CLOSE, 0x06);//空调系统制热控制-关闭
+        condition(CommandType.COND_COLD_OPEN, 0x07);//空调系统制冷控制-开启
+        condition(CommandType.COND_COLD_CLOSE, 0x07);//空调系统制冷控制-关闭
+        vehicle(CommandType.VEHICLE_POWER_ON, 0x08, 0x01);//车辆动力通断控制-动力导通
+        vehicle(CommandType.VEHICLE_POWER_OFF, 0x08, 0x00);//车辆动力通断控制-动力断开
+        vehicle(CommandType.LITTLE_LIGHT_ON, 0x09, 0x01);//小灯控制-开
+        vehicle(CommandType.LITTLE_LIGHT_OFF, 0x09, 0x02);//小灯控制-关
+        vehicle(CommandType.TBOX_WAKE_UP, 0x12, 0x01);//车机唤醒
+        vehicle(CommandType.TBOX_POWER_OFF, 0x12, 0x00);//车机关机
+
+        /**
+         * 车载终端控制命令-远程升级： 根据需要组合升级参数，参数之间用半角分号分隔。
+         *指令如下： “URL 地址;拨号点名称;拨号用户名;拨号密码;地址;端口;生产厂商代码;硬件
+         *版本;固件版本；连接到升级服务器时限” ，若某个参数无值，则为空。 远程升级操作
+         *建议但不限于采用 FTP 方式进行操作。 数据定义见表 7.62。
+         * 指令参数长度与原实现一致为1
+         */
+        define(CommandType.TBOX_UPDATE, 0x82, Layout.CONFIG, 0x01, 0x01, 0x01);
+
+        //参数查询/设置命令, 数据单元为查询/设置时间
+        define(CommandType.ALARM_PARAM_QUERY, 0x84, Layout.TIME);//报警参数查询
+        define(CommandType.ALARM_PARAM_SET, 0x85, Layout.TIME);//报警参数设置
+        define(CommandType.GET_RUN_INFO, 0x86, Layout.TIME);//获取车辆运行数据
+    }
+
+    private D2sCommandTable() {
+    }
+
+    /**
+     * 查找命令定义
+     *
+     * @param type 命令类型
+     * @return 命令定义, 未定义的命令类型只生成消息头
+     */
+    static Command get(CommandType type) {
+        Command command = COMMANDS.get(type);
+        return null == command ? UNDEFINED : command;
+    }
+
+    /**
+     * 车辆控制命令(0x83), 1条控制指令, 参数1个字节
+     *
+     * @param type      命令类型
+     * @param controlId 控制指令ID
+     * @param param     控制指令参数
+     */
+    private static void vehicle(CommandType type, int controlId, int param) {
+        define(type, 0x83, Layout.NONE, 0x01, controlId, 0x01, param);
+    }
+
+    /**
+     * 空调控制命令(0x83), 1条控制指令, 参数为设置时间和温度
+     *
+     * @param type      命令类型
+     * @param controlId 控制指令ID
+     */
+    private static void condition(CommandType type, int controlId) {
+        define(type, 0x83, Layout.CONDITION, 0x01, controlId, 0x04);
+    }
+
+    /**
+     * 编译命令模板
+     *
+     * @param type   命令类型
+     * @param msgId  命令标识, 应答标识固定为0xFE(命令包)
+     * @param layout 可变参数格式
+     * @param body   固定的数据单元(时间和流水号之后)
+     */
+    private static void define(CommandType type, int msgId, Layout layout, int... body) {
+        byte[] template = D2sFrameWriter.template(msgId, 0xFE, COMMAND_HEADER_LENGTH + body.length);
+        for (int i = 0; i < body.length; i++) {
+            template[COMMAND_HEADER_LENGTH + i] = (byte) body[i];
+        }
+        COMMANDS.put(type, new Command(type, template, layout));
+    }
+}
@@ -0,0 +1,59 @@
+package com.incarcloud.rooster.datapack;
+
+/**
+ * D2S数据包解析上下文
+ * <p>
+ * 持有解析过程中可重复使用的对象(信息单元解析、数据对象生成、透传数据解析上下文及其数组),
+ * 解析车辆运行信息时只创建输出的数据对象, 不再为每个数据包分配临时对象。
+ * 批量解析时还记录每个数据包的平均目标数, 用于预先扩充输出列表。
+ * 非线程安全, 每个线程使用自己的实例: 可以显式传入
+ * {@link DataParserD2s#extractBody(DataPack, D2sDecodeContext)},
+ * 也可以使用解析器默认的线程本地实例。
+ */
+public final class D2sDecodeContext {
+
+    /**
+     * 信息单元解析
+     */
+    final D2sInfoUnitDecoder unitDecoder = new D2sInfoUnitDecoder();
+
+    /**
+     * 由信息单元回调生成数据对象
+     */
+    final D2sTargetCollector targetCollector = new D2sTargetCollector();
+
+    /**
+     * 上一批数据包平均每个数据包的目标数(向上取整), 用于批量解析时预先扩充列表容量
+     */
+    private int targetsPerPack = 1;
+
+    /**
+     * 估计一批数据包的目标数
+     *
+     * @param packCount 数据包个数
+     * @return 目标数
+     */
+    int estimateTargets(int packCount) {
+        return packCount * targetsPerPack;
+    }
+
+    /**
+     * 记录一批数据包实际的目标数
+     *
+     * @param packCount   数据包个数
+     * @param targetCount 目标数
+     */
+    void recordTargets(int packCount, int targetCount) {
+        if (0 < packCount) {
+            targetsPerPack = Math.max(1, (targetCount + packCount - 1) / packCount);
+        }
+    }
+
+    /**
+     * 释放对上一个数据包解析结果的引用
+     */
+    void clear() {
+        unitDecoder.clear();
+        targetCollector.clear();
+    }
+}
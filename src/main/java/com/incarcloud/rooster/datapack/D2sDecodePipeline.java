@@ -0,0 +1,225 @@
+package com.incarcloud.rooster.datapack;
+
+import io.netty.buffer.ByteBuf;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 带流量控制的D2S异步解析
+ * <p>
+ * 拆包({@link DataParserD2s#extract})在I/O线程中进行, 包体解析提交到 {@link D2sShardedDecoder} 的分片线程。
+ * 这里统计已提交、尚未解析完的数据包字节数: 超过上限时停止需求, 降到恢复阈值以下时恢复需求,
+ * 调用方根据需求开关连接的 autoRead, 使突发流量下未解析的数据包占用的内存有上限。
+ * <p>
+ * 拆包得到的数据包是接收缓冲区的切片(见 {@link D2sFrameDecoder}), 排队期间会使整个接收缓冲区无法释放,
+ * 只统计数据包本身的字节数并不能限制内存。因此提交时先把切片复制为独立的缓冲区并释放对接收缓冲区的引用,
+ * 按复制后缓冲区的容量计入未解析字节数; 复制在I/O线程中进行, 开销与数据包长度成正比。
+ * 拆包器用复制模式({@code new D2sFrameDecoder(true)})时数据包已是独立的缓冲区, 提交时不再复制。
+ * <p>
+ * 需求变化时回调 {@link DemandListener}, 回调可能同时来自I/O线程和分片线程, 先后顺序不保证,
+ * 回调中应重新读取 {@link #hasDemand()}, 例如:
+ * <pre>
+ * channel.eventLoop().execute(() -&gt; channel.config().setAutoRead(pipeline.hasDemand()));
+ * </pre>
+ * {@link #submit(DataPack)} 本身不阻塞也不拒绝数据包, 超出预算的部分由调用方停止读取来限制。
+ */
+public class D2sDecodePipeline implements AutoCloseable {
+
+    /**
+     * 需求变化回调
+     */
+    public interface DemandListener {
+        /**
+         * 需求变化, 通过 {@link D2sDecodePipeline#hasDemand()} 读取当前需求
+         */
+        void onDemandChanged();
+    }
+
+    private final D2sShardedDecoder decoder;
+    private final DemandListener demandListener;
+
+    /**
+     * 未解析字节数上限, 超过时停止需求
+     */
+    private final long maxPendingBytes;
+
+    /**
+     * 恢复阈值, 未解析字节数不超过时恢复需求
+     */
+    private final long resumePendingBytes;
+
+    /**
+     * 已提交、尚未解析完的字节数
+     */
+    private final AtomicLong pendingBytes = new AtomicLong();
+
+    /**
+     * 是否需要更多数据
+     */
+    private final AtomicBoolean demand = new AtomicBoolean(true);
+
+    /**
+     * 停止需求的次数(累计)
+     */
+    private final AtomicLong pauseCount = new AtomicLong();
+
+    /**
+     * 恢复阈值为上限的一半
+     *
+     * @param parser          解析器
+     * @param listener        解析结果回调
+     * @param shardCount      分片数
+     * @param maxPendingBytes 未解析字节数上限
+     * @param demandListener  需求变化回调
+     */
+    public D2sDecodePipeline(DataParserD2s parser, D2sShardedDecoder.Listener listener, int shardCount,
+                             long maxPendingBytes, DemandListener demandListener) {
+        this(parser, listener, shardCount, maxPendingBytes, maxPendingBytes / 2, demandListener);
+    }
+
+    /**
+     * @param parser             解析器
+     * @param listener           解析结果回调
+     * @param shardCount         分片数
+     * @param maxPendingBytes    未解析字节数上限, 超过时停止需求
+     * @param resumePendingBytes 恢复阈值, 未解析字节数不超过时恢复需求
+     * @param demandListener     需求变化回调
+     */
+    public D2sDecodePipeline(DataParserD2s parser, D2sShardedDecoder.Listener listener, int shardCount,
+                             long maxPendingBytes, long resumePendingBytes, DemandListener demandListener) {
+        if (null == demandListener) {
+            throw new IllegalArgumentException("demandListener must not be null");
+        }
+        if (resumePendingBytes < 0 || maxPendingBytes <= resumePendingBytes) {
+            throw new IllegalArgumentException("require 0 <= resumePendingBytes < maxPendingBytes: "
+                    + resumePendingBytes + ", " + maxPendingBytes);
+        }
+        this.decoder = new D2sShardedDecoder(parser, listener, shardCount);
+        this.demandListener = demandListener;
+        this.maxPendingBytes = maxPendingBytes;
+        this.resumePendingBytes = resumePendingBytes;
+    }
+
+    /**
+     * 提交数据包, 在I/O线程中调用
+     *
+     * @param dataPack 数据包
+     * @return 提交后是否仍需要更多数据
+     */
+    public boolean submit(DataPack dataPack) {
+        ByteBuf buffer = detach(dataPack);
+        int size = null == buffer ? 0 : buffer.capacity();
+        pendingBytes.addAndGet(size);
+        updateDemand();
+        try {
+            decoder.submit(dataPack, () -> release(size));
+        } catch (RuntimeException e) {
+            //已关闭, 数据包未提交
+            release(size);
+            throw e;
+        }
+        return demand.get();
+    }
+
+    /**
+     * 数据包是其他缓冲区的切片时复制为独立的缓冲区, 释放对原缓冲区的引用
+     *
+     * @param dataPack 数据包
+     * @return 数据包持有的缓冲区
+     */
+    private static ByteBuf detach(DataPack dataPack) {
+        ByteBuf buffer = dataPack.getBuf();
+        if (null == buffer || null == buffer.unwrap()) {
+            return buffer;
+        }
+        ByteBuf copy = buffer.copy();
+        dataPack.freeBuf();
+        dataPack.setBuf(copy);
+        return copy;
+    }
+
+    private void release(int size) {
+        pendingBytes.addAndGet(-size);
+        updateDemand();
+    }
+
+    /**
+     * 按当前未解析字节数切换需求
+     * <p>
+     * 切换后重新检查, 避免I/O线程停止需求的同时分片线程已经解析完, 导致需求无法恢复
+     */
+    private void updateDemand() {
+        for (; ; ) {
+            long pending = pendingBytes.get();
+            if (demand.get()) {
+                if (pending <= maxPendingBytes || !demand.compareAndSet(true, false)) {
+                    return;
+                }
+                pauseCount.incrementAndGet();
+            } else {
+                if (pending > resumePendingBytes || !demand.compareAndSet(false, true)) {
+                    return;
+                }
+            }
+            demandListener.onDemandChanged();
+        }
+    }
+
+    /**
+     * @return true-需要更多数据, false-应停止读取
+     */
+    public boolean hasDemand() {
+        return demand.get();
+    }
+
+    /**
+     * @return 已提交、尚未解析完的字节数
+     */
+    public long getPendingBytes() {
+        return pendingBytes.get();
+    }
+
+    /**
+     * @return 停止需求的次数(累计)
+     */
+    public long getPauseCount() {
+        return pauseCount.get();
+    }
+
+    public long getMaxPendingBytes() {
+        return maxPendingBytes;
+    }
+
+    public long getResumePendingBytes() {
+        return resumePendingBytes;
+    }
+
+    /**
+     * @return 分片解析器, 用于读取队列深度和分片吞吐量
+     */
+    public D2sShardedDecoder getDecoder() {
+        return decoder;
+    }
+
+    /**
+     * 解析完已提交的数据包后退出分片线程
+     *
+     * @param timeout 等待时间
+     * @param unit    时间单位
+     * @return true-全部分片已退出
+     * @throws InterruptedException 等待被中断
+     */
+    public boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        return decoder.shutdown(timeout, unit);
+    }
+
+    /**
+     * 关闭, 见 {@link D2sShardedDecoder#close()}; 等待被中断时恢复线程的中断状态后返回
+     */
+    @Override
+    public void close() {
+        decoder.close();
+    }
+}
@@ -0,0 +1,287 @@
+package com.incarcloud.rooster.datapack;
+
+import com.incarcloud.rooster.util.D2sDataPackUtil;
+import io.netty.buffer.ByteBuf;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * D2S流式拆包器
+ * <p>
+ * 每个连接持有一个实例, 在多次调用之间记住当前半包的状态和帧长度,
+ * 数据分段到达时只需判断新到达的字节是否足够, 不再重复扫描和复制协议头。
+ * 非线程安全, 同一连接的数据需在同一线程中依次调用。
+ * <p>
+ * 数据包缓冲区的归属:
+ * <ul>
+ * <li>零拷贝(默认): 数据包持有接收缓冲区的 retainedSlice, 与接收缓冲区共享内存。
+ * 只要还有数据包未释放, 接收缓冲区就不能压缩(discardReadBytes 会移动切片下的数据),
+ * 拆包器也只在接收缓冲区没有其他引用时压缩。适用于在下次读取前同步处理并释放数据包的调用方,
+ * 调用方不能自行压缩接收缓冲区。</li>
+ * <li>复制 {@link #D2sFrameDecoder(boolean)}: 每个数据包复制为独立的缓冲区, 不引用接收缓冲区,
+ * 每次拆包后都会压缩接收缓冲区。数据包需要排队或异步处理时使用, 否则未释放的切片会使接收缓冲区持续增长。</li>
+ * </ul>
+ * <p>
+ * 校验码随数据到达增量计算, 数据包接收完整时只需比较最后一个字节。
+ */
+public class D2sFrameDecoder {
+
+    private static final Logger logger = LoggerFactory.getLogger(D2sFrameDecoder.class);
+
+    /**
+     * true-数据包复制为独立的缓冲区, false-数据包为接收缓冲区的切片
+     */
+    private final boolean copyFrames;
+
+    /**
+     * 拆包状态
+     */
+    enum State {
+        /**
+         * 查找起始符“##”
+         */
+        RESYNC,
+        /**
+         * 已找到起始符, 等待协议头接收完整
+         */
+        HEADER,
+        /**
+         * 协议头已解析, 等待包体接收完整
+         */
+        BODY
+    }
+
+    /**
+     * 当前状态
+     */
+    private State state = State.RESYNC;
+
+    /**
+     * 当前数据包总长度(协议头解析后有效)
+     */
+    private int frameLength;
+
+    /**
+     * 查找起始符时丢弃的字节数(累计)
+     */
+    private long discardedBytes;
+
+    /**
+     * 当前数据包已累计的校验码
+     */
+    private int crc;
+
+    /**
+     * 当前数据包已参与校验的长度(从包头开始计, 包含起始符)
+     */
+    private int checkedLength;
+
+    /**
+     * 校验不通过的数据包个数(累计)
+     */
+    private long checkErrors;
+
+    /**
+     * 零拷贝拆包, 数据包为接收缓冲区的切片
+     */
+    public D2sFrameDecoder() {
+        this(false);
+    }
+
+    /**
+     * @param copyFrames true-数据包复制为独立的缓冲区, 接收缓冲区每次拆包后都可以压缩;
+     *                   false-数据包为接收缓冲区的切片, 数据包释放前接收缓冲区不能压缩
+     */
+    public D2sFrameDecoder(boolean copyFrames) {
+        this.copyFrames = copyFrames;
+    }
+
+    /**
+     * 拆包, 返回本次收齐的数据包
+     *
+     * @param buffer 接收缓冲区
+     * @return 数据包列表
+     */
+    public List<DataPack> decode(ByteBuf buffer) {
+        List<DataPack> dataPackList = new ArrayList<>();
+        decode(buffer, dataPackList);
+        return dataPackList;
+    }
+
+    /**
+     * 拆包, 本次收齐的数据包追加到 out
+     *
+     * @param buffer 接收缓冲区
+     * @param out    数据包列表
+     */
+    @SuppressWarnings("fallthrough")
+    public void decode(ByteBuf buffer, List<DataPack> out) {
+        //长度大于2M的数据直接抛弃(恶意数据)
+        if (DataParserD2s.DISCARDS_MAX_LENGTH < buffer.readableBytes()) {
+            discardedBytes += buffer.readableBytes();
+            buffer.skipBytes(buffer.readableBytes());
+            reset();
+        }
+
+        //缓冲区的读位置被外部移动过,重新查找起始符
+        if (State.RESYNC != state && !isFrameHead(buffer)) {
+            reset();
+        }
+
+        int offset;
+        loop:
+        while (true) {
+            switch (state) {
+                case RESYNC:
+                    if (!resync(buffer)) {
+                        break loop;
+                    }
+                    state = State.HEADER;
+                    // fall through
+                case HEADER:
+                    //协议头未接收完整，等待后续数据
+                    if (buffer.readableBytes() < DataParserD2s.GB_LENGTH) {
+                        break loop;
+                    }
+                    //数据包总长度为包头24+包体长度+包尾1
+                    frameLength = buffer.getUnsignedShort(buffer.readerIndex() + 22) + DataParserD2s.GB_LENGTH;
+                    //校验范围从命令单元开始,跳过起始符
+                    crc = 0;
+                    checkedLength = 2;
+                    state = State.BODY;
+                    // fall through
+                case BODY:
+                    offset = buffer.readerIndex();
+
+                    //只对新到达的字节累计校验码,校验码本身不参与
+                    int checkable = Math.min(buffer.readableBytes(), frameLength - 1);
+                    if (checkable > checkedLength) {
+                        crc ^= D2sDataPackUtil.getBcc(buffer, offset + checkedLength, checkable - checkedLength);
+                        checkedLength = checkable;
+                    }
+
+                    //包体未接收完整，等待后续数据
+                    if (buffer.readableBytes() < frameLength) {
+                        break loop;
+                    }
+
+                    //打包,零拷贝时DataPack持有接收缓冲区的切片(引用计数+1),释放DataPack时归还
+                    if (crc == buffer.getUnsignedByte(offset + frameLength - 1)) {
+                        DataPack dataPack = new DataPack(DataParserD2s.PROTOCOL_GROUP, DataParserD2s.PROTOCOL_NAME, DataParserD2s.PROTOCOL_VERSION);
+                        dataPack.setBuf(copyFrames ? buffer.copy(offset, frameLength)
+                                : buffer.retainedSlice(offset, frameLength));
+                        out.add(dataPack);
+                    } else {
+                        checkError(buffer, offset);
+                    }
+                    //跳过已处理的数据包,校验不通过的数据包直接丢弃
+                    buffer.skipBytes(frameLength);
+                    state = State.RESYNC;
+                    break;
+            }
+        }
+
+        //扔掉已读数据,仍有切片引用缓冲区时不能移动数据(零拷贝时由数据包释放后的下次调用压缩)
+        if (1 == buffer.refCnt()) {
+            buffer.discardReadBytes();
+        }
+    }
+
+    /**
+     * 丢弃半包状态, 下次调用从 readerIndex 重新查找起始符
+     */
+    public void reset() {
+        state = State.RESYNC;
+        frameLength = 0;
+        crc = 0;
+        checkedLength = 0;
+    }
+
+    /**
+     * 累计丢弃的字节数, 包括起始符之前的无效数据和超长的恶意数据
+     *
+     * @return 字节数
+     */
+    public long getDiscardedBytes() {
+        return discardedBytes;
+    }
+
+    /**
+     * 累计校验不通过的数据包个数
+     *
+     * @return 数据包个数
+     */
+    public long getCheckErrors() {
+        return checkErrors;
+    }
+
+    /**
+     * 记录校验不通过的数据包, 输出命令标识和ICCID便于排查终端问题
+     *
+     * @param buffer 接收缓冲区
+     * @param offset 数据包起始位置
+     */
+    private void checkError(ByteBuf buffer, int offset) {
+        checkErrors++;
+        if (logger.isWarnEnabled()) {
+            String iccid = buffer.toString(offset + 4, 17, StandardCharsets.US_ASCII);
+            logger.warn("数据包校验不通过！命令ID: 0x{}, ICCID: {}, 数据包长度: {}",
+                    String.format("%02X", buffer.getUnsignedByte(offset + 2)), iccid, frameLength);
+        }
+    }
+
+    /**
+     * 跳过起始符之前的字节
+     * 使用 ByteBuf.indexOf 直接定位下一个0x23, 不再逐字节循环
+     *
+     * @param buffer 接收缓冲区
+     * @return readerIndex 处是否为起始符
+     */
+    private boolean resync(ByteBuf buffer) {
+        int start = buffer.readerIndex();
+        int end = buffer.writerIndex();
+        if (end - start < 2) {
+            return false;
+        }
+
+        int index = start;
+        boolean found = false;
+        while (end - index >= 2) {
+            //只在最后一个字节之前查找,保证0x23之后还有一个字节可判断
+            index = buffer.indexOf(index, end - 1, (byte) 0x23);
+            if (index < 0) {
+                index = end - 1;
+                break;
+            }
+            if (buffer.getByte(index + 1) == (byte) 0x23) {
+                found = true;
+                break;
+            }
+            //后一个字节不是0x23,也不可能是起始符的开头
+            index += 2;
+        }
+        //未找到时保留最后一个字节,它可能是下一个起始符的开头
+        index = Math.min(index, end - 1);
+
+        discardedBytes += index - start;
+        buffer.readerIndex(index);
+        return found;
+    }
+
+    /**
+     * readerIndex 处是否为起始符“##”
+     *
+     * @param buffer 接收缓冲区
+     * @return true-是
+     */
+    private static boolean isFrameHead(ByteBuf buffer) {
+        int offset = buffer.readerIndex();
+        return buffer.readableBytes() >= 2
+                && buffer.getByte(offset) == (byte) 0x23
+                && buffer.getByte(offset + 1) == (byte) 0x23;
+    }
+}
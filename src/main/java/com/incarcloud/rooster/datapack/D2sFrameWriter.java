@@ -0,0 +1,112 @@
+package com.incarcloud.rooster.datapack;
+
+import com.incarcloud.rooster.util.D2sDataPackUtil;
+import com.incarcloud.rooster.util.D2sTimeCodec;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
+
+/**
+ * D2S下行数据包(应答、命令)写入工具
+ * <p>
+ * 数据包按固定模板写入调用方提供的 ByteBufAllocator 分配的缓冲区,
+ * 只修改ICCID、时间、数据单元长度和校验码, 不再经过 List&lt;Byte&gt; 和 byte[] 中转。
+ * 模板格式: 起始符(2) + 命令标识(1) + 应答标识(1) + ICCID(17) + 加密方式(1) + 数据单元长度(2) + 数据单元,
+ * 数据单元以6字节时间开始。
+ */
+final class D2sFrameWriter {
+
+    /**
+     * 未指定分配器时使用的非池化堆内存分配器, 与 Unpooled.wrappedBuffer 的结果一致
+     */
+    static final ByteBufAllocator HEAP_ALLOCATOR = new UnpooledByteBufAllocator(false);
+
+    /**
+     * ICCID位置
+     */
+    static final int ICCID_OFFSET = 4;
+
+    /**
+     * ICCID长度
+     */
+    static final int ICCID_LENGTH = 17;
+
+    /**
+     * 数据单元长度位置
+     */
+    static final int BODY_LENGTH_OFFSET = 22;
+
+    /**
+     * 消息头长度, 数据单元从这里开始, 前6个字节为时间
+     */
+    static final int HEADER_LENGTH = 24;
+
+    private D2sFrameWriter() {
+    }
+
+    /**
+     * 生成模板, ICCID和时间为0, 由写入时填充
+     *
+     * @param msgId  命令标识
+     * @param resId  应答标识
+     * @param length 模板长度(不含校验码), 不小于消息头+时间
+     * @return 模板
+     */
+    static byte[] template(int msgId, int resId, int length) {
+        byte[] template = new byte[length];
+        template[0] = (byte) 0x23;
+        template[1] = (byte) 0x23;
+        template[2] = (byte) msgId;
+        template[3] = (byte) resId;
+        return template;
+    }
+
+    /**
+     * 写入模板并填充ICCID和当前时间
+     *
+     * @param allocator   缓冲区分配器
+     * @param template    模板
+     * @param capacity    初始容量
+     * @param iccid       ICCID所在数组
+     * @param iccidOffset ICCID在数组中的位置
+     * @return 数据包缓冲区, 写入数据单元后调用 {@link #finish(ByteBuf)}
+     */
+    static ByteBuf begin(ByteBufAllocator allocator, byte[] template, int capacity, byte[] iccid, int iccidOffset) {
+        ByteBuf frame = allocator.buffer(Math.max(capacity, template.length + 1));
+        frame.writeBytes(template);
+        frame.setBytes(ICCID_OFFSET, iccid, iccidOffset, ICCID_LENGTH);
+        D2sTimeCodec.getDefault().now(frame, HEADER_LENGTH);
+        return frame;
+    }
+
+    /**
+     * 写入模板并填充ICCID和当前时间
+     *
+     * @param allocator  缓冲区分配器
+     * @param template   模板
+     * @param capacity   初始容量
+     * @param iccid      ICCID所在缓冲区
+     * @param iccidIndex ICCID在缓冲区中的位置
+     * @return 数据包缓冲区, 写入数据单元后调用 {@link #finish(ByteBuf)}
+     */
+    static ByteBuf begin(ByteBufAllocator allocator, byte[] template, int capacity, ByteBuf iccid, int iccidIndex) {
+        ByteBuf frame = allocator.buffer(Math.max(capacity, template.length + 1));
+        frame.writeBytes(template);
+        frame.setBytes(ICCID_OFFSET, iccid, iccidIndex, ICCID_LENGTH);
+        D2sTimeCodec.getDefault().now(frame, HEADER_LENGTH);
+        return frame;
+    }
+
+    /**
+     * 填写数据单元长度并追加校验码
+     *
+     * @param frame 数据包缓冲区, 从 readerIndex 开始为完整的消息头和数据单元
+     * @return 数据包缓冲区
+     */
+    static ByteBuf finish(ByteBuf frame) {
+        int offset = frame.readerIndex();
+        frame.setShort(offset + BODY_LENGTH_OFFSET, frame.writerIndex() - offset - HEADER_LENGTH);
+        frame.writeByte(D2sDataPackUtil.getBcc(frame, offset + 2, frame.writerIndex() - offset - 2));
+        return frame;
+    }
+}
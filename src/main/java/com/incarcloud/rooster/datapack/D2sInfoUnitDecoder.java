@@ -0,0 +1,417 @@
+package com.incarcloud.rooster.datapack;
+
+import com.incarcloud.rooster.util.D2sDataPackUtil;
+import io.netty.buffer.ByteBufUtil;
+
+import java.util.Arrays;
+
+/**
+ * 信息单元解析
+ * <p>
+ * 车辆运行信息上报(0x02)和补发信息上报(0x04)的数据单元格式相同,
+ * 均由“信息类型标志 + 信息体”依次组成, 按信息类型标志查表调用对应的解析方法,
+ * 解析出的值直接回调 {@link D2sUnitVisitor}, 不创建数据对象。
+ * 补发数据只在 reissue 标志上区别: 补发的透传数据不回调报警信号。
+ * <p>
+ * 实例由 {@link D2sDecodeContext} 持有, 每个数据包解析前调用 {@link #reset} 设置本次解析的参数,
+ * 解析后调用 {@link #clear()} 释放引用, 非线程安全。
+ */
+final class D2sInfoUnitDecoder {
+
+    /**
+     * 信息体解析
+     */
+    interface UnitHandler {
+        /**
+         * @param decoder    信息单元解析
+         * @param dataBuffer 数据单元
+         * @param index      信息体起始位置(信息类型标志之后)
+         * @return 下一个信息类型标志的位置
+         */
+        int decode(D2sInfoUnitDecoder decoder, byte[] dataBuffer, int index);
+    }
+
+    /**
+     * 信息类型标志 -> 信息体解析
+     */
+    private static final UnitHandler[] HANDLERS = new UnitHandler[256];
+
+    private static final D2sCanGroup[] CAN_GROUPS = D2sCanGroup.values();
+
+    static {
+        HANDLERS[0x01] = D2sInfoUnitDecoder::decodeBattery;// 动力蓄电池电气数据
+        HANDLERS[0x02] = D2sInfoUnitDecoder::decodeTemperature;// 动力蓄电池包温度数据
+        HANDLERS[0x03] = D2sInfoUnitDecoder::decodeOverview;// 整车数据
+        HANDLERS[0x04] = D2sInfoUnitDecoder::decodeMotor;// 汽车电机部分数据
+        HANDLERS[0x07] = D2sInfoUnitDecoder::decodePosition;// 车辆位置数据
+        HANDLERS[0x08] = D2sInfoUnitDecoder::decodePeak;// 极值数据
+        HANDLERS[0x09] = D2sInfoUnitDecoder::decodeCan;// 透传数据
+    }
+
+    /**
+     * 单体电池电压视图: 2字节原始值(mV), 换算为V并保留3位小数
+     */
+    private final D2sRawArrayView voltageView = new D2sRawArrayView(2, 0, 1000, 3);
+
+    /**
+     * 探针温度视图: 1字节原始值, 减去40
+     */
+    private final D2sRawArrayView temperatureView = new D2sRawArrayView(1, -40, 1, 0);
+
+    /**
+     * 当前透传信息单元中各ECU分组收到的报文位图, 按 {@link D2sCanGroup#ordinal()} 索引
+     */
+    private final long[] canMasks = new long[CAN_GROUPS.length];
+
+    /**
+     * 信息单元回调
+     */
+    private D2sUnitVisitor visitor;
+    /**
+     * 是否补发数据
+     */
+    private boolean reissue;
+    /**
+     * 透传数据订阅
+     */
+    private D2sCanFilter canFilter;
+    /**
+     * 数据单元结束位置(不含)
+     */
+    private int end;
+
+    /**
+     * 设置本次解析的参数
+     *
+     * @param visitor   信息单元回调
+     * @param reissue   是否补发数据
+     * @param canFilter 透传数据订阅
+     * @return this
+     */
+    D2sInfoUnitDecoder reset(D2sUnitVisitor visitor, boolean reissue, D2sCanFilter canFilter) {
+        this.visitor = visitor;
+        this.reissue = reissue;
+        this.canFilter = canFilter;
+        return this;
+    }
+
+    /**
+     * 释放对本次解析参数的引用
+     */
+    void clear() {
+        reset(null, false, null);
+        voltageView.clear();
+        temperatureView.clear();
+    }
+
+    /**
+     * 依次解析数据单元中的信息单元, 遇到不支持的信息类型时停止(无法确定其长度)
+     *
+     * @param dataBuffer 数据包
+     * @param from       数据单元起始位置(数据采集时间之后)
+     * @param to         数据单元结束位置(不含)
+     */
+    void decode(byte[] dataBuffer, int from, int to) {
+        this.end = to;
+        int index = from;
+        while (index < end) {
+            UnitHandler handler = HANDLERS[dataBuffer[index] & 0xFF];
+            if (null == handler) {
+                break;
+            }
+            index = handler.decode(this, dataBuffer, index + 1);
+        }
+    }
+
+    /**
+     * 动力蓄电池电气数据
+     *
+     * @param dataBuffer 数据单元
+     * @param index      信息体起始位置(信息类型标志之后)
+     * @return 下一个信息类型标志的位置
+     */
+    private int decodeBattery(byte[] dataBuffer, int index) {
+        int length = 11 + (dataBuffer[index + 10] & 0xFF) * 2;
+        checkUnit(index, length);
+        //打印调试信息
+        D2sDataPackUtil.debug(() -> "动力蓄电池电气数据--->" + ByteBufUtil.hexDump(dataBuffer, index, length));
+        //动力蓄电池字子系统个数
+        int batterySysNumber = D2sDataPackUtil.getUnsignedByte(dataBuffer, index);
+        //电池子系统号
+        int batterySysIndex = D2sDataPackUtil.getUnsignedByte(dataBuffer, index + 1);
+        //动力蓄电池电压
+        float totalVoltage = (float) D2sDataPackUtil.getUnsignedShort(dataBuffer, index + 2) / 10;
+        totalVoltage = D2sDataPackUtil.round(totalVoltage, 1);
+        //动力蓄电池电流
+        float totalCurrent = (float) D2sDataPackUtil.getUnsignedShort(dataBuffer, index + 4) / 10 - 1000;
+        totalCurrent = D2sDataPackUtil.round(totalCurrent, 1);
+        //单体蓄电池总数
+        int batteryNumber = D2sDataPackUtil.getUnsignedShort(dataBuffer, index + 6);
+        //本帧起始电池序号
+        int batteryStartIndex = D2sDataPackUtil.getUnsignedShort(dataBuffer, index + 8);
+        //本帧单体电池总数
+        int batteryPacketNumber = D2sDataPackUtil.getUnsignedByte(dataBuffer, index + 10);
+        //单体电压数组
+        visitor.onBattery(batterySysNumber, batterySysIndex, totalVoltage, totalCurrent, batteryNumber,
+                batteryStartIndex, batteryPacketNumber,
+                voltageView.wrap(dataBuffer, index + 11, batteryPacketNumber));
+        //索引增加
+        return index + length;
+    }
+
+    /**
+     * 动力蓄电池包温度数据
+     *
+     * @param dataBuffer 数据单元
+     * @param index      信息体起始位置(信息类型标志之后)
+     * @return 下一个信息类型标志的位置
+     */
+    private int decodeTemperature(byte[] dataBuffer, int index) {
+        int length = 4 + ((dataBuffer[index + 2] & 0xFF << 8) |
+                (dataBuffer[index + 3] & 0xFF));
+        checkUnit(index, length);
+        //打印调试信息
+        D2sDataPackUtil.debug(() -> "动力蓄电池电气数据--->" + ByteBufUtil.hexDump(dataBuffer, index, length));
+        //动力蓄电池总成个数
+        int batterySysNumber = D2sDataPackUtil.getUnsignedByte(dataBuffer, index);
+        //电池子系统号
+        int sysIndex = D2sDataPackUtil.getUnsignedByte(dataBuffer, index + 1);
+        //电池温度探针个数
+        int number = D2sDataPackUtil.getUnsignedShort(dataBuffer, index + 2);
+        if (number > length - 4) {
+            throw new IndexOutOfBoundsException("温度探针个数超出信息体长度: " + number);
+        }
+        //电池总各温度探针检测到的温度值
+        visitor.onTemperature(batterySysNumber, sysIndex, number,
+                temperatureView.wrap(dataBuffer, index + 4, number));
+        return index + length;
+    }
+
+    /**
+     * 整车数据
+     *
+     * @param dataBuffer 数据单元
+     * @param index      信息体起始位置(信息类型标志之后)
+     * @return 下一个信息类型标志的位置
+     */
+    private int decodeOverview(byte[] dataBuffer, int index) {
+        int length = 20;
+        checkUnit(index, length);
+        //打印调试信息
+        D2sDataPackUtil.debug(() -> "整车数据--->" + ByteBufUtil.hexDump(dataBuffer, index, length));
+        //车辆状态
+        int vehicleStatus = D2sDataPackUtil.getUnsignedByte(dataBuffer, index);
+        //充电状态
+        int chargeStatus = D2sDataPackUtil.getUnsignedByte(dataBuffer, index + 1);
+        //运行模式
+        int runStatus = D2sDataPackUtil.getUnsignedByte(dataBuffer, index + 2);
+        //车速
+        float vehicleSpeed = (float) D2sDataPackUtil.getUnsignedShort(dataBuffer, index + 3) / 10;
+        vehicleSpeed = D2sDataPackUtil.round(vehicleSpeed, 1);
+        //累计里程
+        double mileAge = (double) D2sDataPackUtil.getInt(dataBuffer, index + 5) / 10;
+        mileAge = D2sDataPackUtil.round(mileAge, 1);
+        //总电压
+        float totalVoltage = (float) D2sDataPackUtil.getUnsignedShort(dataBuffer, index + 9) / 10;
+        totalVoltage = D2sDataPackUtil.round(totalVoltage, 1);
+        //总电流
+        float totalCurrent = (float) D2sDataPackUtil.getUnsignedShort(dataBuffer, index + 11) / 10 - 1000;
+        totalCurrent = D2sDataPackUtil.round(totalCurrent, 1);
+        //SOC
+        int soc = D2sDataPackUtil.getUnsignedByte(dataBuffer, index + 13);
+        //DC-DC 状态
+        int dcdcStatus = D2sDataPackUtil.getUnsignedByte(dataBuffer, index + 14);
+        //档位
+        int clutchStatus = dataBuffer[index + 15] & 0x0F;
+        //制动状态
+        int driveBrakeStatus = dataBuffer[index + 15] >>> 4 & 0x03;
+        //绝缘电阻
+        int issueValue = D2sDataPackUtil.getUnsignedShort(dataBuffer, index + 16);
+        visitor.onOverview(vehicleStatus, chargeStatus, runStatus, vehicleSpeed, mileAge, totalVoltage,
+                totalCurrent, soc, dcdcStatus, clutchStatus, driveBrakeStatus, issueValue);
+        return index + length;
+    }
+
+    /**
+     * 汽车电机部分数据
+     *
+     * @param dataBuffer 数据单元
+     * @param index      信息体起始位置(信息类型标志之后)
+     * @return 下一个信息类型标志的位置
+     */
+    private int decodeMotor(byte[] dataBuffer, int index) {
+        int length = 13;
+        checkUnit(index, length);
+        //打印调试信息
+        D2sDataPackUtil.debug(() -> "汽车电机部分数据--->" + ByteBufUtil.hexDump(dataBuffer, index, length));
+        //电机个数
+        int motorNumber = D2sDataPackUtil.getUnsignedByte(dataBuffer, index);
+        //电机序号
+        int motorIndex = D2sDataPackUtil.getUnsignedByte(dataBuffer, index + 1);
+        //驱动电机状态
+        int motorStatus = D2sDataPackUtil.getUnsignedByte(dataBuffer, index + 2);
+        //驱动电机控制器温度
+        int motorControlerTemperature = D2sDataPackUtil.getUnsignedByte(dataBuffer, index + 3) - 40;
+        //驱动电机转速
+        int motorRpm = D2sDataPackUtil.getUnsignedShort(dataBuffer, index + 4) - 20000;
+        //驱动电机转矩
+        float motorNm = (float) (D2sDataPackUtil.getUnsignedShort(dataBuffer, index + 6) - 20000) / 10;
+        motorNm = D2sDataPackUtil.round(motorNm, 1);
+        //驱动电机温度
+        int motorTemperature = D2sDataPackUtil.getUnsignedByte(dataBuffer, index + 8) - 40;
+        //电机控制器输入电压
+        float motorInputVoltage = (float) D2sDataPackUtil.getUnsignedShort(dataBuffer, index + 9) / 10;
+        motorInputVoltage = D2sDataPackUtil.round(motorInputVoltage, 1);
+        //电机控制器直流母线电流
+        float motorBusCurrent = (float) D2sDataPackUtil.getUnsignedShort(dataBuffer, index + 11) / 10 - 1000;
+        motorBusCurrent = D2sDataPackUtil.round(motorBusCurrent, 1);
+        visitor.onMotor(motorNumber, motorIndex, motorStatus, motorControlerTemperature, motorRpm, motorNm,
+                motorTemperature, motorInputVoltage, motorBusCurrent);
+        return index + length;
+    }
+
+    /**
+     * 车辆位置数据
+     *
+     * @param dataBuffer 数据单元
+     * @param index      信息体起始位置(信息类型标志之后)
+     * @return 下一个信息类型标志的位置
+     */
+    private int decodePosition(byte[] dataBuffer, int index) {
+        int length = 21;
+        checkUnit(index, length);
+        //打印调试信息
+        D2sDataPackUtil.debug(() -> "车辆位置数据--->" + ByteBufUtil.hexDump(dataBuffer, index, length));
+        //定位状态：0-有效定位；1-无效定位
+        boolean valid = 0 == (dataBuffer[index] & 0x01);
+        //经度
+        double longitude = (double) D2sDataPackUtil.getInt(dataBuffer, index + 1) * 0.000001f;
+        longitude = D2sDataPackUtil.round(longitude, 6);
+        //纬度
+        double latitude = (double) D2sDataPackUtil.getInt(dataBuffer, index + 5) * 0.000001f;
+        latitude = D2sDataPackUtil.round(latitude, 6);
+        //速度
+        float speed = (float) D2sDataPackUtil.getUnsignedShort(dataBuffer, index + 9) / 10;
+        speed = D2sDataPackUtil.round(speed, 1);
+        //海拔
+        double altitude = (double) D2sDataPackUtil.getInt(dataBuffer, index + 11) / 10;
+        altitude = D2sDataPackUtil.round(altitude, 1);
+        //方向
+        float direction = (float) D2sDataPackUtil.getUnsignedShort(dataBuffer, index + 15);
+        visitor.onPosition(valid, longitude, latitude, speed, altitude, direction);
+        return index + length;
+    }
+
+    /**
+     * 极值数据
+     *
+     * @param dataBuffer 数据单元
+     * @param index      信息体起始位置(信息类型标志之后)
+     * @return 下一个信息类型标志的位置
+     */
+    private int decodePeak(byte[] dataBuffer, int index) {
+        int length = 14;
+        checkUnit(index, length);
+        //打印调试信息
+        D2sDataPackUtil.debug(() -> "极值数据--->" + ByteBufUtil.hexDump(dataBuffer, index, length));
+        //最高电压电池子系统号
+        int batterySystemMaxNo = D2sDataPackUtil.getUnsignedByte(dataBuffer, index);
+        //最高电压电池单体代号
+        int batteryVoltageMaxNo = D2sDataPackUtil.getUnsignedByte(dataBuffer, index + 1);
+        //电池单体电压最高值
+        float batteryVoltageMaxValue = (float) D2sDataPackUtil.getUnsignedShort(dataBuffer, index + 2) / 1000;
+        batteryVoltageMaxValue = D2sDataPackUtil.round(batteryVoltageMaxValue, 3);
+        //最低电压电池子系统号
+        int batterySystemMinNo = D2sDataPackUtil.getUnsignedByte(dataBuffer, index + 4);
+        //最低电压电池单体代号
+        int batteryVoltageMinNo = D2sDataPackUtil.getUnsignedByte(dataBuffer, index + 5);
+        //电池单体电压最低值
+        float batteryVoltageMinValue = (float) D2sDataPackUtil.getUnsignedShort(dataBuffer, index + 6) / 1000;
+        batteryVoltageMinValue = D2sDataPackUtil.round(batteryVoltageMinValue, 3);
+        //最高温度子系统号
+        int temperatureHighestSystemNo = D2sDataPackUtil.getUnsignedByte(dataBuffer, index + 8);
+        //最高温度探针单体代号
+        int temperatureHighestNo = D2sDataPackUtil.getUnsignedByte(dataBuffer, index + 9);
+        //蓄电池中最高温度值
+        int temperatureHighestValue = D2sDataPackUtil.getUnsignedByte(dataBuffer, index + 10) - 40;
+        //最低温度子系统号
+        int temperatureLowestSystemNo = D2sDataPackUtil.getUnsignedByte(dataBuffer, index + 11);
+        //最低温度探针子系统代号
+        int temperatureLowestNo = D2sDataPackUtil.getUnsignedByte(dataBuffer, index + 12);
+        //蓄电池中最低温度值
+        int temperatureLowestValue = D2sDataPackUtil.getUnsignedByte(dataBuffer, index + 13) - 40;
+        visitor.onPeak(batterySystemMaxNo, batteryVoltageMaxNo, batteryVoltageMaxValue,
+                batterySystemMinNo, batteryVoltageMinNo, batteryVoltageMinValue,
+                temperatureHighestSystemNo, temperatureHighestNo, temperatureHighestValue,
+                temperatureLowestSystemNo, temperatureLowestNo, temperatureLowestValue);
+        return index + length;
+    }
+
+    /**
+     * 透传数据
+     *
+     * @param dataBuffer 数据单元
+     * @param index      信息体起始位置(信息类型标志之后)
+     * @return 下一个信息类型标志的位置
+     */
+    private int decodeCan(byte[] dataBuffer, int index) {
+        int canPacketNumber = dataBuffer[index] & 0xFF;
+        int length = canPacketNumber * 12;
+        //打印调试信息, 包含透传数据包个数
+        checkUnit(index, length + 1);
+        int canIndex = index;
+        D2sDataPackUtil.debug(() -> "透传数据0000--->" + ByteBufUtil.hexDump(dataBuffer, canIndex, length + 1));
+        index += 1;
+
+        //打印调试信息
+        int canStart = index;
+        D2sDataPackUtil.debug(() -> "透传数据--->" + ByteBufUtil.hexDump(dataBuffer, canStart, length));
+
+        visitor.onCanBegin(canPacketNumber);
+        Arrays.fill(canMasks, 0);
+        for (int i = 0; i < canPacketNumber; i++) {
+            int packetIndex = index + i * 12;
+            //can id
+            int canId = D2sDataPackUtil.getInt(dataBuffer, packetIndex);
+            D2sCanSignalDb.Message message = D2sCanSignalDb.message(canId);
+            if (null == message) {
+                D2sDataPackUtil.debug(() -> "Unsupport packet,canId=" + canId
+                        + ",buf=" + ByteBufUtil.hexDump(dataBuffer, packetIndex + 4, 8));
+                continue;
+            }
+            //未订阅的报文按ID跳过, 不解析信号
+            if (!canFilter.accept(message.group, canId)) {
+                continue;
+            }
+            //记录收到的报文, 同一报文的信号同时赋值
+            if (null != message.group) {
+                canMasks[message.group.ordinal()] |= message.bit;
+            }
+            //按CAN信号表解析, 数据为小端8字节; 补发数据不回调报警信号
+            long bit64 = D2sDataPackUtil.getLongLE(dataBuffer, packetIndex + 4);
+            if (visitor.onCanMessage(message.group, canId, bit64)) {
+                D2sCanSignalDb.visit(message, bit64, visitor, !reissue);
+            }
+        }
+        for (int i = 0; i < CAN_GROUPS.length; i++) {
+            if (0 != canMasks[i]) {
+                visitor.onCanGroup(CAN_GROUPS[i], canMasks[i]);
+            }
+        }
+        visitor.onCanEnd();
+        return index + length;
+    }
+
+    /**
+     * 检查信息体是否超出数据单元, 直接在数据包上按偏移读取, 不再复制信息体
+     *
+     * @param index  信息体起始位置
+     * @param length 信息体长度
+     */
+    private void checkUnit(int index, int length) {
+        if (index + length > end) {
+            throw new IndexOutOfBoundsException("信息体超出数据单元: index=" + index + ", length=" + length
+                    + ", end=" + end);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.incarcloud.rooster.datapack;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * 以原始值保存的只读整数列表, 用于探针温度等数量较多的数据
+ * <p>
+ * 每个元素只保存1字节无符号原始值, 读取时加上偏移量,
+ * 装箱推迟到调用方通过 {@link java.util.List} 接口读取时进行。
+ */
+public final class D2sOffsetIntList extends AbstractList<Integer> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 原始值(无符号)
+     */
+    private final byte[] raw;
+    /**
+     * 偏移量
+     */
+    private final int offset;
+
+    /**
+     * @param raw    原始值(无符号), 由列表持有, 调用方不应再修改
+     * @param offset 偏移量
+     */
+    public D2sOffsetIntList(byte[] raw, int offset) {
+        this.raw = raw;
+        this.offset = offset;
+    }
+
+    /**
+     * 从数据包中读取1字节原始值
+     *
+     * @param buffer 数据包
+     * @param index  起始位置
+     * @param size   元素个数
+     * @param offset 偏移量
+     * @return 列表
+     */
+    static D2sOffsetIntList ofUnsignedBytes(byte[] buffer, int index, int size, int offset) {
+        byte[] raw = new byte[size];
+        System.arraycopy(buffer, index, raw, 0, size);
+        return new D2sOffsetIntList(raw, offset);
+    }
+
+    /**
+     * @param index 下标
+     * @return 原始值(无符号)
+     */
+    public int getRaw(int index) {
+        return raw[index] & 0xFF;
+    }
+
+    /**
+     * @param index 下标
+     * @return 加上偏移量后的值, 不装箱
+     */
+    public int getInt(int index) {
+        return getRaw(index) + offset;
+    }
+
+    /**
+     * @return 加上偏移量后的值
+     */
+    public int[] toIntArray() {
+        int[] values = new int[raw.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = getInt(i);
+        }
+        return values;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    @Override
+    public int size() {
+        return raw.length;
+    }
+}
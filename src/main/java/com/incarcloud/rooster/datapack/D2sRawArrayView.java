@@ -0,0 +1,144 @@
+package com.incarcloud.rooster.datapack;
+
+import com.incarcloud.rooster.util.D2sDataPackUtil;
+
+/**
+ * 信息体中数组数据的只读视图, 用于 {@link D2sUnitVisitor} 回调
+ * <p>
+ * 直接按偏移读取数据包, 不复制也不装箱; 实例由解析器重复使用, 只在回调期间有效,
+ * 需要保存时调用 {@link #toFloatArray()} 或 {@link #toIntArray()} 复制。
+ * 元素值按 (原始值 + offset) / divisor 保留 scale 位小数换算。
+ */
+public final class D2sRawArrayView {
+
+    private byte[] buffer;
+    /**
+     * 第一个元素位置
+     */
+    private int index;
+    /**
+     * 元素个数
+     */
+    private int size;
+    /**
+     * 元素字节数, 1或2(大端)
+     */
+    private final int width;
+    /**
+     * 偏移量
+     */
+    private final int offset;
+    /**
+     * 换算除数
+     */
+    private final int divisor;
+    /**
+     * 保留小数位数
+     */
+    private final int scale;
+
+    /**
+     * @param width   元素字节数, 1或2(大端)
+     * @param offset  偏移量
+     * @param divisor 换算除数
+     * @param scale   保留小数位数
+     */
+    D2sRawArrayView(int width, int offset, int divisor, int scale) {
+        this.width = width;
+        this.offset = offset;
+        this.divisor = divisor;
+        this.scale = scale;
+    }
+
+    /**
+     * 指向数据包中的数组
+     *
+     * @param buffer 数据包
+     * @param index  第一个元素位置
+     * @param size   元素个数
+     * @return this
+     */
+    D2sRawArrayView wrap(byte[] buffer, int index, int size) {
+        this.buffer = buffer;
+        this.index = index;
+        this.size = size;
+        return this;
+    }
+
+    /**
+     * 释放对数据包的引用
+     */
+    void clear() {
+        wrap(null, 0, 0);
+    }
+
+    /**
+     * @return 元素个数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param i 下标
+     * @return 原始值(无符号)
+     */
+    public int getRaw(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("index: " + i + ", size: " + size);
+        }
+        return 1 == width ? buffer[index + i] & 0xFF : D2sDataPackUtil.getUnsignedShort(buffer, index + i * 2);
+    }
+
+    /**
+     * @param i 下标
+     * @return 加上偏移量后的整数值, 适用于不需要换算的数组(如探针温度)
+     */
+    public int getInt(int i) {
+        return getRaw(i) + offset;
+    }
+
+    /**
+     * @param i 下标
+     * @return 换算后的值
+     */
+    public float getFloat(int i) {
+        return D2sDataPackUtil.round((float) getInt(i) / divisor, scale);
+    }
+
+    /**
+     * @return 换算后的值
+     */
+    public float[] toFloatArray() {
+        float[] values = new float[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = getFloat(i);
+        }
+        return values;
+    }
+
+    /**
+     * @return 加上偏移量后的整数值
+     */
+    public int[] toIntArray() {
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = getInt(i);
+        }
+        return values;
+    }
+
+    /**
+     * 复制为单体电池电压列表
+     */
+    D2sScaledFloatList toScaledFloatList() {
+        return D2sScaledFloatList.ofUnsignedShorts(buffer, index, size, divisor, scale);
+    }
+
+    /**
+     * 复制为探针温度列表
+     */
+    D2sOffsetIntList toOffsetIntList() {
+        return D2sOffsetIntList.ofUnsignedBytes(buffer, index, size, offset);
+    }
+}
@@ -0,0 +1,106 @@
+package com.incarcloud.rooster.datapack;
+
+import com.incarcloud.rooster.util.D2sDataPackUtil;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * 以原始值保存的只读浮点列表, 用于单体电池电压等数量较多的数据
+ * <p>
+ * 每个元素只保存2字节无符号原始值, 读取时按 原始值 / divisor 保留 scale 位小数换算,
+ * 装箱推迟到调用方通过 {@link java.util.List} 接口读取时进行。
+ * 需要基本类型的调用方可以判断类型后使用 {@link #getFloat(int)} 或 {@link #toFloatArray()}。
+ */
+public final class D2sScaledFloatList extends AbstractList<Float> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 原始值(无符号)
+     */
+    private final short[] raw;
+    /**
+     * 换算除数
+     */
+    private final int divisor;
+    /**
+     * 保留小数位数
+     */
+    private final int scale;
+
+    /**
+     * @param raw     原始值(无符号), 由列表持有, 调用方不应再修改
+     * @param divisor 换算除数
+     * @param scale   保留小数位数
+     */
+    public D2sScaledFloatList(short[] raw, int divisor, int scale) {
+        this.raw = raw;
+        this.divisor = divisor;
+        this.scale = scale;
+    }
+
+    /**
+     * 从数据包中读取大端2字节原始值
+     *
+     * @param buffer  数据包
+     * @param index   起始位置
+     * @param size    元素个数
+     * @param divisor 换算除数
+     * @param scale   保留小数位数
+     * @return 列表
+     */
+    static D2sScaledFloatList ofUnsignedShorts(byte[] buffer, int index, int size, int divisor, int scale) {
+        short[] raw = new short[size];
+        for (int i = 0; i < size; i++) {
+            raw[i] = (short) D2sDataPackUtil.getUnsignedShort(buffer, index + i * 2);
+        }
+        return new D2sScaledFloatList(raw, divisor, scale);
+    }
+
+    /**
+     * @param index 下标
+     * @return 原始值(无符号)
+     */
+    public int getRaw(int index) {
+        return raw[index] & 0xFFFF;
+    }
+
+    /**
+     * @param index 下标
+     * @return 换算后的值, 不装箱
+     */
+    public float getFloat(int index) {
+        return D2sDataPackUtil.round((float) getRaw(index) / divisor, scale);
+    }
+
+    /**
+     * @return 换算后的值
+     */
+    public float[] toFloatArray() {
+        float[] values = new float[raw.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = getFloat(i);
+        }
+        return values;
+    }
+
+    public int getDivisor() {
+        return divisor;
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    @Override
+    public Float get(int index) {
+        return getFloat(index);
+    }
+
+    @Override
+    public int size() {
+        return raw.length;
+    }
+}
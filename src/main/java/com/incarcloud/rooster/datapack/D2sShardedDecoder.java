@@ -0,0 +1,358 @@
+package com.incarcloud.rooster.datapack;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.internal.PlatformDependent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 按设备分片的D2S数据包解析器
+ * <p>
+ * 按数据包中的ICCID(第4~21字节)哈希到N个分片, 每个分片由一个解析线程依次解析,
+ * 任务队列为无锁的多生产者单消费者队列, 提交时不加锁。同一设备的数据包总在同一分片中按提交顺序解析,
+ * 不同设备的数据包可以在多个核上并行解析。
+ * <p>
+ * 解析结果在分片线程中回调 {@link Listener}, 回调应尽快返回, 否则会阻塞同一分片的其他设备;
+ * 数据包的 freeBuf 由回调方负责。
+ */
+public class D2sShardedDecoder implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(D2sShardedDecoder.class);
+
+    /**
+     * ICCID位置
+     */
+    private static final int ICCID_OFFSET = D2sFrameWriter.ICCID_OFFSET;
+
+    /**
+     * ICCID长度
+     */
+    private static final int ICCID_LENGTH = D2sFrameWriter.ICCID_LENGTH;
+
+    /**
+     * 解析结果回调
+     */
+    public interface Listener {
+        /**
+         * 在分片线程中回调, 同一设备的数据包按提交顺序回调
+         *
+         * @param dataPack           数据包
+         * @param dataPackTargetList 解析结果, 数据包没有数据时为null
+         */
+        void onDecoded(DataPack dataPack, List<DataPackTarget> dataPackTargetList);
+    }
+
+    private final DataParserD2s parser;
+    private final Listener listener;
+    private final Shard[] shards;
+
+    /**
+     * 是否已关闭
+     */
+    private volatile boolean shutdown;
+
+    /**
+     * 各分片已解析的数据包数
+     */
+    private final AtomicLongArray decodedCounts;
+
+    /**
+     * 各分片已输出的目标数
+     */
+    private final AtomicLongArray targetCounts;
+
+    /**
+     * 各分片解析和回调累计耗时(纳秒)
+     */
+    private final AtomicLongArray busyNanos;
+
+    /**
+     * 分片数与可用处理器数相同
+     *
+     * @param parser   解析器
+     * @param listener 解析结果回调
+     */
+    public D2sShardedDecoder(DataParserD2s parser, Listener listener) {
+        this(parser, listener, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param parser     解析器
+     * @param listener   解析结果回调
+     * @param shardCount 分片数
+     */
+    public D2sShardedDecoder(DataParserD2s parser, Listener listener, int shardCount) {
+        if (null == parser || null == listener) {
+            throw new IllegalArgumentException("parser and listener must not be null");
+        }
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("shardCount must be positive: " + shardCount);
+        }
+        this.parser = parser;
+        this.listener = listener;
+        this.decodedCounts = new AtomicLongArray(shardCount);
+        this.targetCounts = new AtomicLongArray(shardCount);
+        this.busyNanos = new AtomicLongArray(shardCount);
+        this.shards = new Shard[shardCount];
+        ThreadFactory threadFactory = new DefaultThreadFactory("d2s-decode", true);
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(threadFactory);
+        }
+        for (Shard shard : shards) {
+            shard.thread.start();
+        }
+    }
+
+    /**
+     * 提交数据包, 在ICCID对应的分片中解析
+     *
+     * @param dataPack 数据包
+     * @return 分片序号
+     */
+    public int submit(DataPack dataPack) {
+        return submit(dataPack, null);
+    }
+
+    /**
+     * 提交数据包, 在ICCID对应的分片中解析
+     *
+     * @param dataPack   数据包
+     * @param completion 解析和回调结束后在分片线程中执行, 可以为null
+     * @return 分片序号
+     */
+    int submit(DataPack dataPack, Runnable completion) {
+        int shard = shardOf(dataPack.getBuf());
+        shards[shard].execute(() -> decode(shard, dataPack, completion));
+        return shard;
+    }
+
+    /**
+     * 计算数据包所属分片, 直接读取缓冲区中的ICCID, 不复制数据包
+     *
+     * @param buffer 数据包
+     * @return 分片序号, 数据包长度不足时为0
+     */
+    public int shardOf(ByteBuf buffer) {
+        if (null == buffer || buffer.readableBytes() < ICCID_OFFSET + ICCID_LENGTH) {
+            return 0;
+        }
+        int index = buffer.readerIndex() + ICCID_OFFSET;
+        int hash = 0;
+        for (int i = 0; i < ICCID_LENGTH; i++) {
+            hash = 31 * hash + buffer.getByte(index + i);
+        }
+        return shardOf(hash);
+    }
+
+    /**
+     * 计算数据包所属分片
+     *
+     * @param dataPackBytes 数据包
+     * @return 分片序号, 数据包长度不足时为0
+     */
+    public int shardOf(byte[] dataPackBytes) {
+        if (null == dataPackBytes || dataPackBytes.length < ICCID_OFFSET + ICCID_LENGTH) {
+            return 0;
+        }
+        int hash = 0;
+        for (int i = ICCID_OFFSET; i < ICCID_OFFSET + ICCID_LENGTH; i++) {
+            hash = 31 * hash + dataPackBytes[i];
+        }
+        return shardOf(hash);
+    }
+
+    private int shardOf(int hash) {
+        //打散低位后取模, ICCID通常只有末几位不同
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        return (hash & Integer.MAX_VALUE) % shards.length;
+    }
+
+    private void decode(int shard, DataPack dataPack, Runnable completion) {
+        long start = System.nanoTime();
+        try {
+            List<DataPackTarget> dataPackTargetList = parser.extractBody(dataPack);
+            if (null != dataPackTargetList) {
+                targetCounts.lazySet(shard, targetCounts.get(shard) + dataPackTargetList.size());
+            }
+            listener.onDecoded(dataPack, dataPackTargetList);
+        } catch (Throwable e) {
+            logger.error("d2s decode callback failed", e);
+        } finally {
+            decodedCounts.lazySet(shard, decodedCounts.get(shard) + 1);
+            busyNanos.lazySet(shard, busyNanos.get(shard) + System.nanoTime() - start);
+            if (null != completion) {
+                completion.run();
+            }
+        }
+    }
+
+    /**
+     * @return 分片数
+     */
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    /**
+     * @param shard 分片序号
+     * @return 分片中等待解析的数据包数
+     */
+    public int getQueueDepth(int shard) {
+        return shards[shard].pendingTasks();
+    }
+
+    /**
+     * @return 全部分片等待解析的数据包数
+     */
+    public int getQueueDepth() {
+        int depth = 0;
+        for (Shard shard : shards) {
+            depth += shard.pendingTasks();
+        }
+        return depth;
+    }
+
+    /**
+     * 已解析的数据包数, 两次采样之差除以采样间隔即为分片吞吐量
+     *
+     * @param shard 分片序号
+     * @return 数据包数
+     */
+    public long getDecodedCount(int shard) {
+        return decodedCounts.get(shard);
+    }
+
+    /**
+     * @param shard 分片序号
+     * @return 已输出的目标数
+     */
+    public long getTargetCount(int shard) {
+        return targetCounts.get(shard);
+    }
+
+    /**
+     * 解析和回调累计耗时, 两次采样之差除以采样间隔即为分片线程的忙碌比例
+     *
+     * @param shard 分片序号
+     * @return 纳秒
+     */
+    public long getBusyNanos(int shard) {
+        return busyNanos.get(shard);
+    }
+
+    /**
+     * 停止接收新的数据包, 解析完已提交的数据包后退出分片线程
+     * <p>
+     * 调用前应先停止提交, 与关闭同时进行的提交可能不被解析
+     *
+     * @param timeout 等待时间
+     * @param unit    时间单位
+     * @return true-全部分片已退出
+     * @throws InterruptedException 等待被中断
+     */
+    public boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        shutdown = true;
+        for (Shard shard : shards) {
+            LockSupport.unpark(shard.thread);
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (Shard shard : shards) {
+            if (!shard.terminated.await(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 关闭, 最多等待15秒, 见 {@link #shutdown(long, TimeUnit)}
+     * <p>
+     * 等待被中断时恢复线程的中断状态后返回
+     */
+    @Override
+    public void close() {
+        try {
+            shutdown(15, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 分片: 一个解析线程和它的任务队列
+     * <p>
+     * 任务队列为 {@link PlatformDependent#newMpscQueue()}, 提交方之间只竞争一次CAS;
+     * 队列为空时解析线程挂起, 提交方只在解析线程挂起时唤醒。
+     */
+    private final class Shard implements Runnable {
+
+        private final Queue<Runnable> queue = PlatformDependent.newMpscQueue();
+
+        private final Thread thread;
+
+        /**
+         * 解析线程已挂起或准备挂起
+         */
+        private volatile boolean parked;
+
+        /**
+         * 解析线程已退出
+         */
+        private final CountDownLatch terminated = new CountDownLatch(1);
+
+        Shard(ThreadFactory threadFactory) {
+            this.thread = threadFactory.newThread(this);
+        }
+
+        void execute(Runnable task) {
+            if (shutdown) {
+                throw new RejectedExecutionException("d2s decoder has been shut down");
+            }
+            queue.offer(task);
+            if (parked) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        int pendingTasks() {
+            return queue.size();
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (; ; ) {
+                    Runnable task = queue.poll();
+                    if (null != task) {
+                        task.run();
+                        continue;
+                    }
+                    //已关闭且已提交的数据包全部解析完
+                    if (shutdown) {
+                        break;
+                    }
+                    parked = true;
+                    //设置挂起标志后再检查一次队列, 避免错过设置标志前提交的数据包
+                    if (queue.isEmpty() && !shutdown) {
+                        LockSupport.park(this);
+                    }
+                    parked = false;
+                }
+            } finally {
+                terminated.countDown();
+            }
+        }
+    }
+}
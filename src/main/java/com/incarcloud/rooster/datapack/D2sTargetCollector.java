@@ -0,0 +1,306 @@
+package com.incarcloud.rooster.datapack;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 由信息单元回调生成数据对象, {@link DataParserD2s#extractBody(DataPack)} 的实现
+ * <p>
+ * 每个信息单元生成对应的数据对象追加到数据包目标列表; 透传数据交给 {@link D2sCanContext} 按信号表赋值,
+ * 只输出收到过CAN报文的对象。
+ * <p>
+ * 实例由 {@link D2sDecodeContext} 持有, 每个数据包解析前调用 {@link #reset} 设置本次解析的参数,
+ * 解析后调用 {@link #clear()} 释放对解析结果的引用, 非线程安全。
+ */
+final class D2sTargetCollector implements D2sUnitVisitor {
+
+    /**
+     * 透传数据解析上下文, 每个透传信息单元重复使用
+     */
+    private final D2sCanContext canContext = new D2sCanContext();
+
+    private DataPackObject dataPackObject;
+    /**
+     * 数据采集时间
+     */
+    private Date detectionTime;
+    /**
+     * 是否补发数据
+     */
+    private boolean reissue;
+    private List<DataPackTarget> dataPackTargetList;
+    /**
+     * 车辆位置信息, 透传数据生成报警时引用
+     */
+    private DataPackPosition dataPackPosition;
+    /**
+     * 透传数据报文位图回调, 可以为null
+     */
+    private D2sUnitVisitor canGroupListener;
+
+    /**
+     * 设置本次解析的参数
+     *
+     * @param dataPackObject     数据包公共信息
+     * @param dataPackTargetList 数据包目标列表
+     * @param canGroupListener   透传数据报文位图回调, 可以为null
+     * @return this
+     */
+    D2sTargetCollector reset(DataPackObject dataPackObject, List<DataPackTarget> dataPackTargetList,
+                             D2sUnitVisitor canGroupListener) {
+        this.dataPackObject = dataPackObject;
+        this.dataPackTargetList = dataPackTargetList;
+        this.canGroupListener = canGroupListener;
+        this.detectionTime = null;
+        this.reissue = false;
+        this.dataPackPosition = null;
+        return this;
+    }
+
+    /**
+     * 释放对本次解析参数和结果的引用
+     */
+    void clear() {
+        reset(null, null, null);
+        canContext.clear();
+    }
+
+    @Override
+    public void onBegin(long detectionTime, boolean reissue) {
+        this.detectionTime = new Date(detectionTime);
+        this.reissue = reissue;
+        // 6.检验时间
+        dataPackObject.setDetectionTime(this.detectionTime);
+    }
+
+    @Override
+    public void onBattery(int batterySysNumber, int batterySysIndex, float totalVoltage, float totalCurrent,
+                          int batteryNumber, int batteryStartIndex, int batteryPacketNumber,
+                          D2sRawArrayView voltages) {
+        DataPackBattery dataPackBattery = new DataPackBattery(dataPackObject);
+        //动力蓄电池字子系统个数
+        dataPackBattery.setBatterySysNumber(batterySysNumber);
+        //电池子系统号
+        dataPackBattery.setBatterySysIndex(batterySysIndex);
+        //动力蓄电池电压
+        dataPackBattery.setTotalVoltage(totalVoltage);
+        //动力蓄电池电流
+        dataPackBattery.setTotalCurrent(totalCurrent);
+        //单体蓄电池总数
+        dataPackBattery.setBatteryNumber(batteryNumber);
+        //本帧起始电池序号, 与原实现一致覆盖电池子系统号
+        dataPackBattery.setBatterySysIndex(batteryStartIndex);
+        //本帧单体电池总数
+        dataPackBattery.setBatteryPacketNumber(batteryPacketNumber);
+        //单体电压数组, 保存原始值(mV), 读取时换算为V并保留3位小数
+        dataPackBattery.setBatteryVoltages(voltages.toScaledFloatList());
+        //-add
+        dataPackTargetList.add(new DataPackTarget(dataPackBattery));
+    }
+
+    @Override
+    public void onTemperature(int batterySysNumber, int sysIndex, int number, D2sRawArrayView temperatures) {
+        DataPackTemperature dataPackTemperature = new DataPackTemperature(dataPackObject);
+        //动力蓄电池总成个数
+        dataPackTemperature.setBatterySysNumber(batterySysNumber);
+        //电池子系统号
+        dataPackTemperature.setSysIndex(sysIndex);
+        //电池温度探针个数
+        dataPackTemperature.setNumber(number);
+        //电池总各温度探针检测到的温度值, 保存原始值, 读取时减去40
+        dataPackTemperature.setTemperatureList(temperatures.toOffsetIntList());
+        //-add
+        dataPackTargetList.add(new DataPackTarget(dataPackTemperature));
+    }
+
+    @Override
+    public void onOverview(int carStatus, int chargeStatus, int runStatus, float vehicleSpeed, double mileage,
+                           float voltage, float totalCurrent, int soc, int dcdcStatus, int clutchStatus,
+                           int driveBrakeStatus, int issueValue) {
+        DataPackOverview dataPackOverview = new DataPackOverview(dataPackObject);
+        //车辆状态
+        dataPackOverview.setCarStatus(carStatus);
+        //充电状态
+        dataPackOverview.setChargeStatus(chargeStatus);
+        //运行模式
+        dataPackOverview.setRunStatus(runStatus);
+        //车速
+        dataPackOverview.setVehicleSpeed(vehicleSpeed);
+        //累计里程
+        dataPackOverview.setMileage(mileage);
+        //总电压
+        dataPackOverview.setVoltage(voltage);
+        //总电流
+        dataPackOverview.setTotalCurrent(totalCurrent);
+        //SOC
+        dataPackOverview.setSoc(soc);
+        //DC-DC 状态
+        dataPackOverview.setDcdcStatus(dcdcStatus);
+        //档位
+        dataPackOverview.setClutchStatus(clutchStatus);
+        //制动状态
+        dataPackOverview.setDriveBrakeStatus(driveBrakeStatus);
+        //绝缘电阻
+        dataPackOverview.setIssueValue(issueValue);
+        //-add
+        dataPackTargetList.add(new DataPackTarget(dataPackOverview));
+    }
+
+    @Override
+    public void onMotor(int motorTotal, int motorSeq, int motorStatus, int controllerTemperature, int speed,
+                        float torque, int motorTemperature, float controllerInputVoltage,
+                        float controllerDirectCurrent) {
+        DataPackMotor dataPackMotor = new DataPackMotor(dataPackObject);
+        //电机个数
+        dataPackMotor.setMotorTotal(motorTotal);
+        //电机序号
+        dataPackMotor.setMotorSeq(motorSeq);
+        //驱动电机状态
+        dataPackMotor.setMotorStatus(motorStatus);
+        //驱动电机控制器温度
+        dataPackMotor.setControllerTemperature(controllerTemperature);
+        //驱动电机转速
+        dataPackMotor.setSpeed(speed);
+        //驱动电机转矩
+        dataPackMotor.setTorque(torque);
+        //驱动电机温度
+        dataPackMotor.setMotorTemperature(motorTemperature);
+        //电机控制器输入电压
+        dataPackMotor.setControllerInputVoltage(controllerInputVoltage);
+        //电机控制器直流母线电流
+        dataPackMotor.setControllerDirectCurrent(controllerDirectCurrent);
+        //-add
+        dataPackTargetList.add(new DataPackTarget(dataPackMotor));
+    }
+
+    @Override
+    public void onPosition(boolean valid, double longitude, double latitude, float speed, double altitude,
+                           float direction) {
+        dataPackPosition = new DataPackPosition(dataPackObject);
+        //车辆定位时间
+        dataPackPosition.setPositionTime(detectionTime);
+        if (valid) {
+            // 有效定位-定位方式未知
+            dataPackPosition.setPositioMode(DataPackPosition.POSITION_MODE_UNKNOWN);
+        } else {
+            // 无效定位
+            dataPackPosition.setPositioMode(DataPackPosition.POSITION_MODE_INVALID);
+        }
+        //经度
+        dataPackPosition.setLongitude(longitude);
+        //纬度
+        dataPackPosition.setLatitude(latitude);
+        //速度
+        dataPackPosition.setSpeed(speed);
+        //海拔
+        dataPackPosition.setAltitude(altitude);
+        //方向
+        dataPackPosition.setDirection(direction);
+        dataPackTargetList.add(new DataPackTarget(dataPackPosition));
+    }
+
+    @Override
+    public void onPeak(int voltageMaxSysNo, int voltageMaxNo, float voltageMax,
+                       int voltageMinSysNo, int voltageMinNo, float voltageMin,
+                       int temperatureMaxSysNo, int temperatureMaxNo, int temperatureMax,
+                       int temperatureMinSysNo, int temperatureMinNo, int temperatureMin) {
+        DataPackPeak dataPackPeak = new DataPackPeak(dataPackObject);
+        List<DataPackPeak.Peak> peakList = new ArrayList<>();
+
+        //最高电压电池子系统号
+        peakList.add(new DataPackPeak.Peak(null, "最高电压电池子系统号",
+                String.valueOf(voltageMaxSysNo), null,
+                "有效值范围：1～250，“0xFE”表示异常，“0xFF”表示无效。"));
+
+        //最高电压电池单体代号
+        peakList.add(new DataPackPeak.Peak(null, "最高电压电池单体代号",
+                String.valueOf(voltageMaxNo), null,
+                "有效值范围：1～250，“0xFE”表示异常，“0xFF”表示无效。"));
+
+        //电池单体电压最高值
+        peakList.add(new DataPackPeak.Peak(null, "电池单体电压最高值",
+                String.valueOf(voltageMax), "V", "有效值范围： " +
+                "0～15000（表示 0V～15V）"));
+
+        //最低电压电池子系统号
+        peakList.add(new DataPackPeak.Peak(null, "最低电压电池子系统号",
+                String.valueOf(voltageMinSysNo), null,
+                "有效值范围：1～250，“0xFE”表示异常，“0xFF”表示无效。"));
+
+        //最低电压电池单体代号
+        peakList.add(new DataPackPeak.Peak(null, "最低电压电池单体代号",
+                String.valueOf(voltageMinNo), null,
+                "有效值范围：1～250，“0xFE”表示异常，“0xFF”表示无效。"));
+
+        //电池单体电压最低值
+        peakList.add(new DataPackPeak.Peak(null, "最高电压电池单体代号",
+                String.valueOf(voltageMin), "V", "有效值范围： " +
+                "0～15000（表示 0V～15V）"));
+
+        //最高温度子系统号
+        peakList.add(new DataPackPeak.Peak(null, "最高温度子系统号",
+                String.valueOf(temperatureMaxSysNo), null,
+                "有效值范围：1～250，“0xFE”表示异常，“0xFF”表示无效。"));
+
+        //最高温度探针单体代号
+        peakList.add(new DataPackPeak.Peak(null, "最高温度探针单体代号",
+                String.valueOf(temperatureMaxNo), null,
+                "有效值范围：1～250，“0xFE”表示异常，“0xFF”表示无效。"));
+
+        //蓄电池中最高温度值
+        peakList.add(new DataPackPeak.Peak(null, "蓄电池中最高温度值",
+                String.valueOf(temperatureMax), "℃", "有效值范围： " +
+                "0～250（数值偏移量 40℃，表示-40℃～+210℃）"));
+
+        //最低温度子系统号
+        peakList.add(new DataPackPeak.Peak(null, "最低温度子系统号",
+                String.valueOf(temperatureMinSysNo), null,
+                "有效值范围：1～250，“0xFE”表示异常，“0xFF”表示无效。"));
+
+        //最低温度探针子系统代号
+        peakList.add(new DataPackPeak.Peak(null, "最低温度探针子系统代号",
+                String.valueOf(temperatureMinNo), null,
+                "有效值范围：1～250，“0xFE”表示异常，“0xFF”表示无效。"));
+
+        //蓄电池中最低温度值
+        peakList.add(new DataPackPeak.Peak(null, "蓄电池中最低温度值",
+                String.valueOf(temperatureMin), "℃", "有效值范围： " +
+                "0～250（数值偏移量 40℃，表示-40℃～+210℃）"));
+
+        dataPackPeak.setPeakList(peakList);
+        //-add
+        dataPackTargetList.add(new DataPackTarget(dataPackPeak));
+    }
+
+    @Override
+    public void onCanBegin(int packetNumber) {
+        //can数据,各ECU数据对象由解析上下文持有; 补发的透传数据不生成eps报警
+        canContext.reset(dataPackObject, dataPackPosition, !reissue);
+    }
+
+    /**
+     * 按信号表直接赋值到数据对象, 不再逐个回调信号
+     */
+    @Override
+    public boolean onCanMessage(D2sCanGroup group, int canId, long data) {
+        D2sCanSignalDb.decode(canId, data, canContext);
+        return false;
+    }
+
+    /**
+     * 转发给调用方的报文位图回调
+     */
+    @Override
+    public void onCanGroup(D2sCanGroup group, long canMask) {
+        if (null != canGroupListener) {
+            canGroupListener.onCanGroup(group, canMask);
+        }
+    }
+
+    @Override
+    public void onCanEnd() {
+        canContext.addTo(dataPackTargetList);
+        canContext.clear();
+    }
+}
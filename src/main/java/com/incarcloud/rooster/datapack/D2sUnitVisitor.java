@@ -0,0 +1,200 @@
+package com.incarcloud.rooster.datapack;
+
+/**
+ * 车辆运行信息(0x02)和补发信息(0x04)的信息单元回调
+ * <p>
+ * 解析过程中按信息单元在数据包中的顺序直接回调, 参数为基本类型或重复使用的视图,
+ * 只做统计的调用方不需要为每个信息单元创建数据对象。
+ * 数值的换算和保留小数与 {@link DataParserD2s#extractBody(DataPack)} 输出的数据对象一致,
+ * 后者即由本接口的实现生成。
+ * <p>
+ * 所有方法默认不做处理, 按需重写; 回调在解析线程中依次执行, 视图参数只在回调期间有效。
+ *
+ * @see DataParserD2s#visitBody(DataPack, D2sUnitVisitor)
+ */
+public interface D2sUnitVisitor {
+
+    /**
+     * 开始解析一个数据包的信息单元
+     *
+     * @param detectionTime 数据采集时间(毫秒)
+     * @param reissue       是否补发数据
+     */
+    default void onBegin(long detectionTime, boolean reissue) {
+    }
+
+    /**
+     * 动力蓄电池电气数据(0x01)
+     *
+     * @param batterySysNumber    动力蓄电池子系统个数
+     * @param batterySysIndex     电池子系统号
+     * @param totalVoltage        动力蓄电池电压(V)
+     * @param totalCurrent        动力蓄电池电流(A)
+     * @param batteryNumber       单体蓄电池总数
+     * @param batteryStartIndex   本帧起始电池序号
+     * @param batteryPacketNumber 本帧单体电池总数
+     * @param voltages            单体电池电压(V)
+     */
+    default void onBattery(int batterySysNumber, int batterySysIndex, float totalVoltage, float totalCurrent,
+                           int batteryNumber, int batteryStartIndex, int batteryPacketNumber,
+                           D2sRawArrayView voltages) {
+    }
+
+    /**
+     * 动力蓄电池包温度数据(0x02)
+     *
+     * @param batterySysNumber 动力蓄电池总成个数
+     * @param sysIndex         电池子系统号
+     * @param number           电池温度探针个数
+     * @param temperatures     探针温度(℃), 使用 {@link D2sRawArrayView#getInt(int)} 读取
+     */
+    default void onTemperature(int batterySysNumber, int sysIndex, int number, D2sRawArrayView temperatures) {
+    }
+
+    /**
+     * 整车数据(0x03)
+     *
+     * @param carStatus        车辆状态
+     * @param chargeStatus     充电状态
+     * @param runStatus        运行模式
+     * @param vehicleSpeed     车速(km/h)
+     * @param mileage          累计里程(km)
+     * @param voltage          总电压(V)
+     * @param totalCurrent     总电流(A)
+     * @param soc              SOC
+     * @param dcdcStatus       DC-DC 状态
+     * @param clutchStatus     档位
+     * @param driveBrakeStatus 制动状态
+     * @param issueValue       绝缘电阻
+     */
+    default void onOverview(int carStatus, int chargeStatus, int runStatus, float vehicleSpeed, double mileage,
+                            float voltage, float totalCurrent, int soc, int dcdcStatus, int clutchStatus,
+                            int driveBrakeStatus, int issueValue) {
+    }
+
+    /**
+     * 汽车电机部分数据(0x04)
+     *
+     * @param motorTotal              电机个数
+     * @param motorSeq                电机序号
+     * @param motorStatus             驱动电机状态
+     * @param controllerTemperature   驱动电机控制器温度(℃)
+     * @param speed                   驱动电机转速(r/min)
+     * @param torque                  驱动电机转矩(N·m)
+     * @param motorTemperature        驱动电机温度(℃)
+     * @param controllerInputVoltage  电机控制器输入电压(V)
+     * @param controllerDirectCurrent 电机控制器直流母线电流(A)
+     */
+    default void onMotor(int motorTotal, int motorSeq, int motorStatus, int controllerTemperature, int speed,
+                         float torque, int motorTemperature, float controllerInputVoltage,
+                         float controllerDirectCurrent) {
+    }
+
+    /**
+     * 车辆位置数据(0x07)
+     *
+     * @param valid     是否有效定位
+     * @param longitude 经度
+     * @param latitude  纬度
+     * @param speed     速度(km/h)
+     * @param altitude  海拔(m)
+     * @param direction 方向
+     */
+    default void onPosition(boolean valid, double longitude, double latitude, float speed, double altitude,
+                            float direction) {
+    }
+
+    /**
+     * 极值数据(0x08)
+     *
+     * @param voltageMaxSysNo     最高电压电池子系统号
+     * @param voltageMaxNo        最高电压电池单体代号
+     * @param voltageMax          电池单体电压最高值(V)
+     * @param voltageMinSysNo     最低电压电池子系统号
+     * @param voltageMinNo        最低电压电池单体代号
+     * @param voltageMin          电池单体电压最低值(V)
+     * @param temperatureMaxSysNo 最高温度子系统号
+     * @param temperatureMaxNo    最高温度探针单体代号
+     * @param temperatureMax      最高温度值(℃)
+     * @param temperatureMinSysNo 最低温度子系统号
+     * @param temperatureMinNo    最低温度探针子系统代号
+     * @param temperatureMin      最低温度值(℃)
+     */
+    default void onPeak(int voltageMaxSysNo, int voltageMaxNo, float voltageMax,
+                        int voltageMinSysNo, int voltageMinNo, float voltageMin,
+                        int temperatureMaxSysNo, int temperatureMaxNo, int temperatureMax,
+                        int temperatureMinSysNo, int temperatureMinNo, int temperatureMin) {
+    }
+
+    /**
+     * 开始解析透传数据(0x09)
+     *
+     * @param packetNumber CAN报文个数
+     */
+    default void onCanBegin(int packetNumber) {
+    }
+
+    /**
+     * 收到信号表中有定义且已订阅的CAN报文, 见 {@link DataParserD2s#setCanFilter(D2sCanFilter)}
+     *
+     * @param group ECU分组, 版本等不输出的报文为null
+     * @param canId CAN ID
+     * @param data  CAN数据(8字节按小端转换)
+     * @return true-继续按信号表回调 {@link #onCanSignal} 和 {@link #onAlarm}
+     */
+    default boolean onCanMessage(D2sCanGroup group, int canId, long data) {
+        return true;
+    }
+
+    /**
+     * 整数信号
+     *
+     * @param signal 信号描述
+     * @param value  信号值
+     */
+    default void onCanSignal(D2sCanSignal signal, int value) {
+    }
+
+    /**
+     * 浮点信号
+     *
+     * @param signal 信号描述
+     * @param value  换算后的信号值
+     */
+    default void onCanSignal(D2sCanSignal signal, float value) {
+    }
+
+    /**
+     * 报警信号, 在对应的 {@link #onCanSignal} 之前回调; 与数据对象一致, 补发数据不回调
+     *
+     * @param signal 信号描述, 报警代码和名称见 {@link D2sCanSignal#getAlarmCode()} 和 {@link D2sCanSignal#getAlarmName()}
+     * @param value  信号原始值
+     */
+    default void onAlarm(D2sCanSignal signal, long value) {
+    }
+
+    /**
+     * 透传数据中ECU分组收到的CAN报文, 在 {@link #onCanEnd()} 之前按分组依次回调, 只回调收到报文的分组
+     * <p>
+     * 位图的第i位对应 {@link D2sCanGroup#getCanIds()} 的第i个报文, 同一报文中的信号同时赋值,
+     * 因此位图也表示 {@link DataParserD2s#extractBody(DataPack)} 输出的对应数据对象中哪些信号已赋值,
+     * 生成数据对象时通过 {@link DataParserD2s#extractBody(DataPack, D2sDecodeContext, D2sUnitVisitor)} 接收。
+     *
+     * @param group   ECU分组
+     * @param canMask 收到的报文位图
+     */
+    default void onCanGroup(D2sCanGroup group, long canMask) {
+    }
+
+    /**
+     * 透传数据解析结束
+     */
+    default void onCanEnd() {
+    }
+
+    /**
+     * 数据包的信息单元解析结束, 解析失败时不回调
+     */
+    default void onEnd() {
+    }
+}
@@ -1,8 +1,15 @@
 package com.incarcloud.rooster.util;
 
+import io.netty.buffer.ByteBuf;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.Calendar;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * zd d2s DataPack工具类
@@ -11,6 +18,32 @@ import java.util.List;
  * Time: 11:57
  */
 public class D2sDataPackUtil extends DataPackUtil {
+
+    private static final Logger logger = LoggerFactory.getLogger(D2sDataPackUtil.class);
+
+    /**
+     * 调试信息开关, 启动参数 -Drooster.d2s.debug=true 打开
+     * <p>
+     * static final 常量, 关闭时 JIT 直接消除调试分支, 不拼接字符串也不生成十六进制字符串;
+     * 打开后调试信息按 DEBUG 级别输出到 SLF4J
+     */
+    public static final boolean DEBUG = Boolean.getBoolean("rooster.d2s.debug");
+    /**
+     * 10的n次幂(float精确表示)
+     */
+    private static final float[] FLOAT_10_POW = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f};
+
+    /**
+     * 10的n次幂(double精确表示)
+     */
+    private static final double[] DOUBLE_10_POW = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15};
+
+    /**
+     * double 四舍五入支持的最大小数位数, 2*10^scale 小于 2^53
+     */
+    private static final int MAX_DOUBLE_SCALE = 15;
+
     /**
      * 获取协议命令标识
      *
@@ -27,13 +60,24 @@ public class D2sDataPackUtil extends DataPackUtil {
     }
 
     /**
-     * 打印调试信息，调试完成后设置false
+     * 打印调试信息, 仅用于常量字符串
      *
      * @param string 字符串
      */
     public static void debug(String string) {
-        if (true) {
-            System.out.println(string);
+        if (DEBUG && logger.isDebugEnabled()) {
+            logger.debug(string);
+        }
+    }
+
+    /**
+     * 打印调试信息, 调试信息关闭时不调用 supplier, 需要拼接或转换的字符串使用此方法
+     *
+     * @param supplier 调试信息
+     */
+    public static void debug(Supplier<String> supplier) {
+        if (DEBUG && logger.isDebugEnabled()) {
+            logger.debug(supplier.get());
         }
     }
 
@@ -93,42 +137,29 @@ public class D2sDataPackUtil extends DataPackUtil {
     }
 
     /**
+     * 按默认时区解析协议时间, 见 {@link D2sTimeCodec#getDefault()}
+     *
      * @param buffer byte[]{year-2000,month,day_of_month,hour_of_day,minute,seconds}
      * @param offset
      * @return
      * @etc byte[]{16, 1, 12, 3, 3, 1} --> Date("2016-01-12 03:03:01")
      */
     public static long buf2Date(byte[] buffer, int offset) throws Exception {
-        if (buffer.length - offset < 6) {
+        if (buffer.length - offset < D2sTimeCodec.LENGTH) {
             throw new Exception("buffer length is not enough");
         }
-        Calendar now = Calendar.getInstance();
-        now.set(Calendar.YEAR, (buffer[offset + 0] & 0xFF) + 2000);
-        now.set(Calendar.MONTH, (buffer[offset + 1] & 0xFF) - 1);
-        now.set(Calendar.DAY_OF_MONTH, (buffer[offset + 2] & 0xFF));
-        now.set(Calendar.HOUR_OF_DAY, (buffer[offset + 3] & 0xFF));
-        now.set(Calendar.MINUTE, (buffer[offset + 4] & 0xFF));
-        now.set(Calendar.SECOND, (buffer[offset + 5] & 0xFF));
-        now.set(Calendar.MILLISECOND, 0);
-        return now.getTimeInMillis();
+        return D2sTimeCodec.getDefault().decode(buffer, offset);
     }
 
     /**
+     * 按默认时区生成协议时间, 见 {@link D2sTimeCodec#getDefault()}
+     *
      * @param times
      * @return byte[]{year-2000,month,day_of_month,hour_of_day,minute,seconds}
      * @example 2016-01-12 03-03-01 --> byte[]{16, 1, 12, 3, 3, 1}
      */
     public static byte[] date2buf(long times) {
-        byte[] packetBuffer = new byte[6];
-        Calendar now = Calendar.getInstance();
-        now.setTimeInMillis(times);
-        packetBuffer[0] = (byte) (now.get(Calendar.YEAR) - 2000);
-        packetBuffer[1] = (byte) (now.get(Calendar.MONTH) + 1);
-        packetBuffer[2] = (byte) now.get(Calendar.DAY_OF_MONTH);
-        packetBuffer[3] = (byte) now.get(Calendar.HOUR_OF_DAY);
-        packetBuffer[4] = (byte) now.get(Calendar.MINUTE);
-        packetBuffer[5] = (byte) now.get(Calendar.SECOND);
-        return packetBuffer;
+        return D2sTimeCodec.getDefault().encode(times);
     }
 
     /**
@@ -144,16 +175,167 @@ public class D2sDataPackUtil extends DataPackUtil {
             buffer[22] = (byte) ((length >>> 8) & 0xFF);
             buffer[23] = (byte) (length & 0xFF);
             //添加校验码
-            int crc = buffer[2] & 0xFF;
-            for (int i = 3; i < buffer.length - 1; i++) {
-                crc = crc ^ (buffer[i] & 0xFF);
-            }
-            buffer[buffer.length - 1] = (byte) (crc & 0xFF);
+            buffer[buffer.length - 1] = (byte) getBcc(buffer, 2, buffer.length - 3);
             return buffer;
         }
         return null;
     }
 
+    /**
+     * BCC（异或校验）
+     * 每次读取8个字节整体异或, 最后将64位结果折叠为1个字节
+     *
+     * @param buffer 缓冲区
+     * @param index  起始位置
+     * @param length 校验长度
+     * @return 校验码(0~255)
+     */
+    public static int getBcc(ByteBuf buffer, int index, int length) {
+        long word = 0;
+        int end = index + length;
+        int i = index;
+        for (; i + 8 <= end; i += 8) {
+            word ^= buffer.getLong(i);
+        }
+        int crc = foldBcc(word);
+        for (; i < end; i++) {
+            crc ^= buffer.getByte(i);
+        }
+        return crc & 0xFF;
+    }
+
+    /**
+     * BCC（异或校验）
+     *
+     * @param buffer 字节数组
+     * @param offset 起始位置
+     * @param length 校验长度
+     * @return 校验码(0~255)
+     * @see #getBcc(ByteBuf, int, int)
+     */
+    public static int getBcc(byte[] buffer, int offset, int length) {
+        ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+        long word = 0;
+        int end = offset + length;
+        int i = offset;
+        for (; i + 8 <= end; i += 8) {
+            word ^= byteBuffer.getLong(i);
+        }
+        int crc = foldBcc(word);
+        for (; i < end; i++) {
+            crc ^= buffer[i];
+        }
+        return crc & 0xFF;
+    }
+
+    /**
+     * 64位异或结果折叠为1个字节
+     *
+     * @param word 8字节异或结果
+     * @return 校验码
+     */
+    private static int foldBcc(long word) {
+        word ^= word >>> 32;
+        word ^= word >>> 16;
+        word ^= word >>> 8;
+        return (int) word & 0xFF;
+    }
+
+    /**
+     * 四舍五入(HALF_UP)保留指定小数位数, 结果与
+     * new BigDecimal(value).setScale(scale, RoundingMode.HALF_UP).floatValue() 一致
+     * <p>
+     * float 最多24位有效位, 乘以 2*10^scale(scale&lt;=6) 后在 double 中没有误差,
+     * 因此可以直接用定点整数判断进位, 不创建 BigDecimal 对象。
+     * CAN信号表中原先用 BigDecimal.valueOf 保留小数位的字段, 对全部原始值结果也相同。
+     *
+     * @param value 数值
+     * @param scale 小数位数
+     * @return 保留小数位后的数值
+     */
+    public static float round(float value, int scale) {
+        if (Float.isNaN(value) || Float.isInfinite(value)) {
+            throw new NumberFormatException("Infinite or NaN");
+        }
+        if (scale >= 0 && scale < FLOAT_10_POW.length) {
+            //|value| * 2 * 10^scale, 精确值
+            double doubled = Math.abs((double) value) * (2 * DOUBLE_10_POW[scale]);
+            if (doubled < (1L << 25)) {
+                //四舍五入后的定点整数, 小于等于2^24, float可精确表示
+                long fixed = (long) ((doubled + 1) / 2);
+                if (value < 0) {
+                    fixed = -fixed;
+                }
+                return (float) fixed / FLOAT_10_POW[scale];
+            }
+        }
+        return new BigDecimal(value).setScale(scale, RoundingMode.HALF_UP).floatValue();
+    }
+
+    /**
+     * 四舍五入(HALF_UP)保留指定小数位数, 结果与
+     * new BigDecimal(value).setScale(scale, RoundingMode.HALF_UP).doubleValue() 一致
+     * <p>
+     * 乘积 |value| * 2 * 10^scale 拆分为 hi + lo 两个 double 精确表示,
+     * 按精确值修正定点整数后再除以 10^scale, 不创建 BigDecimal 对象。
+     *
+     * @param value 数值
+     * @param scale 小数位数
+     * @return 保留小数位后的数值
+     */
+    public static double round(double value, int scale) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new NumberFormatException("Infinite or NaN");
+        }
+        if (scale >= 0 && scale <= MAX_DOUBLE_SCALE) {
+            double abs = Math.abs(value);
+            double multiplier = 2 * DOUBLE_10_POW[scale];
+            double hi = abs * multiplier;
+            if (hi < (1L << 52)) {
+                double lo = productError(abs, multiplier, hi);
+                //近似值, 再按精确值 hi + lo 修正到 2 * fixed - 1 <= hi + lo < 2 * fixed + 1
+                long fixed = (long) ((hi + 1) / 2);
+                if (fixed > 0 && (hi - (2 * fixed - 1)) + lo < 0) {
+                    fixed--;
+                } else if ((hi - (2 * fixed + 1)) + lo >= 0) {
+                    fixed++;
+                }
+                if (value < 0) {
+                    fixed = -fixed;
+                }
+                return (double) fixed / DOUBLE_10_POW[scale];
+            }
+        }
+        return new BigDecimal(value).setScale(scale, RoundingMode.HALF_UP).doubleValue();
+    }
+
+    /**
+     * 乘积的舍入误差, a * b = product + error (Dekker算法)
+     *
+     * @param a       乘数
+     * @param b       乘数
+     * @param product a * b 的 double 结果
+     * @return 舍入误差
+     */
+    private static double productError(double a, double b, double product) {
+        double aHi = splitHigh(a);
+        double aLo = a - aHi;
+        double bHi = splitHigh(b);
+        double bLo = b - bHi;
+        return ((aHi * bHi - product) + aHi * bLo + aLo * bHi) + aLo * bLo;
+    }
+
+    /**
+     * 取 double 的高26位(Veltkamp拆分)
+     *
+     * @param a 数值
+     * @return 高位部分
+     */
+    private static double splitHigh(double a) {
+        double c = 134217729.0 * a;// 2^27 + 1
+        return c - (c - a);
+    }
+
     /**
      * 将指定范围的buffer转换为Ascii字符串
      *
@@ -172,29 +354,118 @@ public class D2sDataPackUtil extends DataPackUtil {
     }
 
     /**
-     * 将byte数组转换为整数，大端模式
+     * 将byte数组转换为整数，小端模式
      *
      * @param buffer
      * @return
      */
     public static long toLong(byte[] buffer) {
-        long bit64 = 0;
-        bit64 |= (buffer[7] & 0xFF);
-        bit64 = (bit64 << 8);
-        bit64 |= (buffer[6] & 0xFF);
-        bit64 = (bit64 << 8);
-        bit64 |= (buffer[5] & 0xFF);
-        bit64 = (bit64 << 8);
-        bit64 |= (buffer[4] & 0xFF);
-        bit64 = (bit64 << 8);
-        bit64 |= (buffer[3] & 0xFF);
-        bit64 = (bit64 << 8);
-        bit64 |= (buffer[2] & 0xFF);
-        bit64 = (bit64 << 8);
-        bit64 |= (buffer[1] & 0xFF);
-        bit64 = (bit64 << 8);
-        bit64 |= (buffer[0] & 0xFF);
-        return bit64;
+        return getLongLE(buffer, 0);
+    }
+
+    /**
+     * 读取无符号字节
+     * <p>
+     * 以下读取方法直接按位置读取数组, 不复制子数组; ByteBuf 使用其自身的同名方法
+     *
+     * @param buffer 数组
+     * @param index  位置
+     * @return 0~255
+     */
+    public static int getUnsignedByte(byte[] buffer, int index) {
+        return buffer[index] & 0xFF;
+    }
+
+    /**
+     * 读取无符号短整数(大端)
+     *
+     * @param buffer 数组
+     * @param index  位置
+     * @return 0~65535
+     */
+    public static int getUnsignedShort(byte[] buffer, int index) {
+        return (buffer[index] & 0xFF) << 8 | (buffer[index + 1] & 0xFF);
+    }
+
+    /**
+     * 读取整数(大端)
+     *
+     * @param buffer 数组
+     * @param index  位置
+     * @return 整数
+     */
+    public static int getInt(byte[] buffer, int index) {
+        return (buffer[index] & 0xFF) << 24 | (buffer[index + 1] & 0xFF) << 16
+                | (buffer[index + 2] & 0xFF) << 8 | (buffer[index + 3] & 0xFF);
+    }
+
+    /**
+     * 读取整数(小端)
+     *
+     * @param buffer 数组
+     * @param index  位置
+     * @return 整数
+     */
+    public static int getIntLE(byte[] buffer, int index) {
+        return (buffer[index] & 0xFF) | (buffer[index + 1] & 0xFF) << 8
+                | (buffer[index + 2] & 0xFF) << 16 | (buffer[index + 3] & 0xFF) << 24;
+    }
+
+    /**
+     * 读取无符号整数(大端)
+     *
+     * @param buffer 数组
+     * @param index  位置
+     * @return 0~4294967295
+     */
+    public static long getUnsignedInt(byte[] buffer, int index) {
+        return getInt(buffer, index) & 0xFFFFFFFFL;
+    }
+
+    /**
+     * 读取长整数(大端), 按两个32位整数读取后合并
+     *
+     * @param buffer 数组
+     * @param index  位置
+     * @return 长整数
+     */
+    public static long getLong(byte[] buffer, int index) {
+        return (long) getInt(buffer, index) << 32 | getInt(buffer, index + 4) & 0xFFFFFFFFL;
+    }
+
+    /**
+     * 读取长整数(小端), 按两个32位整数读取后合并
+     *
+     * @param buffer 数组
+     * @param index  位置
+     * @return 长整数
+     */
+    public static long getLongLE(byte[] buffer, int index) {
+        return (long) getIntLE(buffer, index + 4) << 32 | getIntLE(buffer, index) & 0xFFFFFFFFL;
+    }
+
+    /**
+     * 提取位段
+     *
+     * @param value    数值
+     * @param startBit 起始位(最低位为0)
+     * @param length   位数(1~63)
+     * @return 位段的无符号值
+     */
+    public static long getBits(long value, int startBit, int length) {
+        return (value >>> startBit) & ((1L << length) - 1);
+    }
+
+    /**
+     * 读取协议时间并移动 readerIndex, 见 {@link #buf2Date(byte[], int)}
+     *
+     * @param buffer 数据包
+     * @return 毫秒数
+     */
+    public static long readDate(ByteBuf buffer) {
+        long times = D2sTimeCodec.getDefault().decode(buffer, buffer.readerIndex());
+        buffer.skipBytes(D2sTimeCodec.LENGTH);
+        return times;
     }
 
     /**
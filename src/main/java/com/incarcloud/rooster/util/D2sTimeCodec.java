@@ -0,0 +1,381 @@
+package com.incarcloud.rooster.util;
+
+import io.netty.buffer.ByteBuf;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+/**
+ * D2S协议时间编解码
+ * <p>
+ * 协议时间为6个字节 byte[]{year-2000,month,day_of_month,hour_of_day,minute,seconds},
+ * 按指定时区的本地时间表示。年月日与天数之间用公历算法直接换算, 时区偏移按小时缓存,
+ * 编解码过程不创建 Calendar 对象。
+ * <p>
+ * 与 Calendar 的宽松模式一致: 月份超出1~12时折算到前后年份, 日、时、分、秒超出范围时顺延;
+ * 夏令时切换处不存在或重复的本地时间按切换前后较小的偏移(标准时间)换算。
+ * <p>
+ * 线程安全, 缓存项为不可变对象, 多线程并发读写缓存不需要加锁。
+ */
+public final class D2sTimeCodec {
+
+    /**
+     * 协议时间长度
+     */
+    public static final int LENGTH = 6;
+
+    /**
+     * 默认时区的系统属性, 未设置时使用JVM默认时区
+     */
+    public static final String ZONE_PROPERTY = "rooster.d2s.zone";
+
+    /**
+     * 缓存项个数(2的n次幂)
+     */
+    private static final int CACHE_SIZE = 64;
+
+    private static final int SECONDS_PER_HOUR = 3600;
+
+    private static final int SECONDS_PER_DAY = 86400;
+
+    /**
+     * 0000-03-01 到 1970-01-01 的天数
+     */
+    private static final long DAYS_0000_TO_1970 = 719468;
+
+    /**
+     * 400年的天数
+     */
+    private static final long DAYS_PER_ERA = 146097;
+
+    /**
+     * 时区偏移的最大绝对值(秒)
+     */
+    private static final long MAX_OFFSET_SECONDS = 18 * SECONDS_PER_HOUR;
+
+    private static volatile D2sTimeCodec defaultCodec;
+
+    /**
+     * 某个小时内的时区偏移
+     */
+    private static final class HourOffset {
+        final long hour;
+        final int offsetSeconds;
+
+        HourOffset(long hour, int offsetSeconds) {
+            this.hour = hour;
+            this.offsetSeconds = offsetSeconds;
+        }
+    }
+
+    /**
+     * 某一秒的协议时间, 发布后不再修改
+     */
+    private static final class Stamp {
+        final long second;
+        final byte[] bytes;
+
+        Stamp(long second, byte[] bytes) {
+            this.second = second;
+            this.bytes = bytes;
+        }
+    }
+
+    private final ZoneId zone;
+
+    private final ZoneRules rules;
+
+    /**
+     * 按UTC小时缓存的偏移, 用于编码
+     */
+    private final HourOffset[] utcCache = new HourOffset[CACHE_SIZE];
+
+    /**
+     * 按本地小时缓存的偏移, 用于解码
+     */
+    private final HourOffset[] localCache = new HourOffset[CACHE_SIZE];
+
+    /**
+     * 当前秒的协议时间, 秒数变化后由首个调用者重新生成
+     */
+    private volatile Stamp current = new Stamp(Long.MIN_VALUE, new byte[LENGTH]);
+
+    /**
+     * @param zone 协议时间所在时区
+     */
+    public D2sTimeCodec(ZoneId zone) {
+        if (null == zone) {
+            throw new IllegalArgumentException("zone is null");
+        }
+        this.zone = zone;
+        this.rules = zone.getRules();
+    }
+
+    /**
+     * 默认编解码器, 时区取系统属性 rooster.d2s.zone, 未设置时取JVM默认时区
+     *
+     * @return 编解码器
+     */
+    public static D2sTimeCodec getDefault() {
+        D2sTimeCodec codec = defaultCodec;
+        if (null == codec) {
+            String zoneId = System.getProperty(ZONE_PROPERTY);
+            codec = new D2sTimeCodec(null == zoneId ? ZoneId.systemDefault() : ZoneId.of(zoneId));
+            defaultCodec = codec;
+        }
+        return codec;
+    }
+
+    /**
+     * 设置默认编解码器的时区
+     *
+     * @param zone 协议时间所在时区
+     */
+    public static void setDefaultZone(ZoneId zone) {
+        defaultCodec = new D2sTimeCodec(zone);
+    }
+
+    /**
+     * @return 协议时间所在时区
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * 协议时间转换为毫秒数
+     *
+     * @param buffer 数据
+     * @param offset 协议时间起始位置
+     * @return 毫秒数
+     * @etc byte[]{16, 1, 12, 3, 3, 1} --> Date("2016-01-12 03:03:01")
+     */
+    public long decode(byte[] buffer, int offset) {
+        return decode(buffer[offset] & 0xFF, buffer[offset + 1] & 0xFF, buffer[offset + 2] & 0xFF,
+                buffer[offset + 3] & 0xFF, buffer[offset + 4] & 0xFF, buffer[offset + 5] & 0xFF);
+    }
+
+    /**
+     * 协议时间转换为毫秒数, 不移动 readerIndex
+     *
+     * @param buffer 数据
+     * @param index  协议时间起始位置
+     * @return 毫秒数
+     * @throws IndexOutOfBoundsException 数据长度不足
+     */
+    public long decode(ByteBuf buffer, int index) {
+        if (index < 0 || index + LENGTH > buffer.writerIndex()) {
+            throw new IndexOutOfBoundsException("buffer length is not enough");
+        }
+        return decode(buffer.getUnsignedByte(index), buffer.getUnsignedByte(index + 1),
+                buffer.getUnsignedByte(index + 2), buffer.getUnsignedByte(index + 3),
+                buffer.getUnsignedByte(index + 4), buffer.getUnsignedByte(index + 5));
+    }
+
+    /**
+     * 协议时间各字段转换为毫秒数
+     *
+     * @param yy     年-2000
+     * @param month  月
+     * @param day    日
+     * @param hour   时
+     * @param minute 分
+     * @param second 秒
+     * @return 毫秒数
+     */
+    private long decode(int yy, int month, int day, int hour, int minute, int second) {
+        long year = yy + 2000;
+        long monthIndex = month - 1;
+        //月份超出范围时折算到年份
+        year += Math.floorDiv(monthIndex, 12);
+        monthIndex = Math.floorMod(monthIndex, 12);
+
+        long days = daysFromCivil(year, (int) monthIndex + 1) + day - 1;
+        long localSeconds = days * SECONDS_PER_DAY + hour * SECONDS_PER_HOUR + minute * 60 + second;
+        return (localSeconds - localOffset(localSeconds)) * 1000;
+    }
+
+    /**
+     * 毫秒数转换为协议时间
+     *
+     * @param times  毫秒数
+     * @param buffer 目标数组
+     * @param offset 写入位置
+     * @example 2016-01-12 03-03-01 --> byte[]{16, 1, 12, 3, 3, 1}
+     */
+    public void encode(long times, byte[] buffer, int offset) {
+        long epochSeconds = Math.floorDiv(times, 1000);
+        long localSeconds = epochSeconds + utcOffset(epochSeconds);
+        long days = Math.floorDiv(localSeconds, SECONDS_PER_DAY);
+        long secondOfDay = Math.floorMod(localSeconds, SECONDS_PER_DAY);
+
+        //公历日期, 算法见 http://howardhinnant.github.io/date_algorithms.html
+        long z = days + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(z, DAYS_PER_ERA);
+        int doe = (int) (z - era * DAYS_PER_ERA);
+        int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        int mp = (5 * doy + 2) / 153;
+        int day = doy - (153 * mp + 2) / 5 + 1;
+        int month = mp < 10 ? mp + 3 : mp - 9;
+        long year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+
+        buffer[offset] = (byte) (year - 2000);
+        buffer[offset + 1] = (byte) month;
+        buffer[offset + 2] = (byte) day;
+        buffer[offset + 3] = (byte) (secondOfDay / SECONDS_PER_HOUR);
+        buffer[offset + 4] = (byte) (secondOfDay / 60 % 60);
+        buffer[offset + 5] = (byte) (secondOfDay % 60);
+    }
+
+    /**
+     * 毫秒数转换为协议时间
+     *
+     * @param times 毫秒数
+     * @return 协议时间
+     */
+    public byte[] encode(long times) {
+        byte[] buffer = new byte[LENGTH];
+        encode(times, buffer, 0);
+        return buffer;
+    }
+
+    /**
+     * 写入当前时间, 同一秒内复制缓存的协议时间, 不重复换算
+     * <p>
+     * 多个线程同时跨秒时可能各自生成一次, 结果相同, 不需要加锁
+     *
+     * @param buffer 目标数组
+     * @param offset 写入位置
+     */
+    public void now(byte[] buffer, int offset) {
+        System.arraycopy(currentStamp().bytes, 0, buffer, offset, LENGTH);
+    }
+
+    /**
+     * 写入当前时间, 不移动 writerIndex
+     *
+     * @param buffer 目标缓冲区
+     * @param index  写入位置
+     */
+    public void now(ByteBuf buffer, int index) {
+        buffer.setBytes(index, currentStamp().bytes);
+    }
+
+    /**
+     * 当前时间
+     *
+     * @return 协议时间
+     */
+    public byte[] now() {
+        return currentStamp().bytes.clone();
+    }
+
+    /**
+     * 当前秒的协议时间
+     *
+     * @return 缓存的协议时间
+     */
+    private Stamp currentStamp() {
+        long second = Math.floorDiv(System.currentTimeMillis(), 1000);
+        Stamp stamp = current;
+        if (stamp.second != second) {
+            stamp = new Stamp(second, encode(second * 1000));
+            current = stamp;
+        }
+        return stamp;
+    }
+
+    /**
+     * 公历日期距1970-01-01的天数
+     *
+     * @param year  年
+     * @param month 月(1~12)
+     * @return 天数
+     */
+    static long daysFromCivil(long year, int month) {
+        if (month <= 2) {
+            year--;
+        }
+        long era = Math.floorDiv(year, 400);
+        int yoe = (int) (year - era * 400);
+        int doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5;
+        int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * DAYS_PER_ERA + doe - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * UTC时间所在时区的偏移
+     *
+     * @param epochSeconds UTC秒数
+     * @return 偏移秒数
+     */
+    private int utcOffset(long epochSeconds) {
+        long hour = Math.floorDiv(epochSeconds, SECONDS_PER_HOUR);
+        int slot = (int) hour & (CACHE_SIZE - 1);
+        HourOffset cached = utcCache[slot];
+        if (null != cached && cached.hour == hour) {
+            return cached.offsetSeconds;
+        }
+
+        //该小时内没有偏移切换时才缓存
+        long start = hour * SECONDS_PER_HOUR;
+        if (isStable(start, start + SECONDS_PER_HOUR)) {
+            int offsetSeconds = rules.getOffset(Instant.ofEpochSecond(start)).getTotalSeconds();
+            utcCache[slot] = new HourOffset(hour, offsetSeconds);
+            return offsetSeconds;
+        }
+        return rules.getOffset(Instant.ofEpochSecond(epochSeconds)).getTotalSeconds();
+    }
+
+    /**
+     * 本地时间所在时区的偏移
+     *
+     * @param localSeconds 本地时间距1970-01-01T00:00的秒数
+     * @return 偏移秒数
+     */
+    private int localOffset(long localSeconds) {
+        long hour = Math.floorDiv(localSeconds, SECONDS_PER_HOUR);
+        int slot = (int) hour & (CACHE_SIZE - 1);
+        HourOffset cached = localCache[slot];
+        if (null != cached && cached.hour == hour) {
+            return cached.offsetSeconds;
+        }
+
+        //本地时间对应的UTC时间在前后18小时以内, 该范围内没有偏移切换时才缓存
+        long start = hour * SECONDS_PER_HOUR;
+        if (isStable(start - MAX_OFFSET_SECONDS, start + SECONDS_PER_HOUR + MAX_OFFSET_SECONDS)) {
+            int offsetSeconds = rules.getOffset(Instant.ofEpochSecond(start)).getTotalSeconds();
+            localCache[slot] = new HourOffset(hour, offsetSeconds);
+            return offsetSeconds;
+        }
+
+        //切换处不存在或重复的本地时间取较小的偏移
+        LocalDateTime localDateTime = LocalDateTime.ofEpochSecond(localSeconds, 0, ZoneOffset.UTC);
+        ZoneOffsetTransition transition = rules.getTransition(localDateTime);
+        if (null != transition) {
+            return Math.min(transition.getOffsetBefore().getTotalSeconds(),
+                    transition.getOffsetAfter().getTotalSeconds());
+        }
+        return rules.getOffset(localDateTime).getTotalSeconds();
+    }
+
+    /**
+     * UTC时间范围内是否没有偏移切换
+     *
+     * @param from 起始UTC秒数(包含)
+     * @param to   结束UTC秒数(不包含)
+     * @return true-没有切换
+     */
+    private boolean isStable(long from, long to) {
+        if (rules.isFixedOffset()) {
+            return true;
+        }
+        ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochSecond(from - 1));
+        return null == transition || transition.getInstant().getEpochSecond() >= to;
+    }
+}
@@ -0,0 +1,119 @@
+package com.incarcloud.rooster.datapack;
+
+import org.junit.Test;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 透传数据各ECU分组收到的报文位图
+ */
+public class D2sCanGroupMaskTest {
+
+    /**
+     * 各分组对应的数据对象
+     */
+    private static final Map<Class<?>, D2sCanGroup> GROUP_OF_CLASS = new HashMap<>();
+
+    static {
+        GROUP_OF_CLASS.put(DataPackCanHvac.class, D2sCanGroup.HVAC);
+        GROUP_OF_CLASS.put(DataPackCanBcm.class, D2sCanGroup.BCM);
+        GROUP_OF_CLASS.put(DataPackCanVms.class, D2sCanGroup.VMS);
+        GROUP_OF_CLASS.put(DataPackCanPeps.class, D2sCanGroup.PEPS);
+        GROUP_OF_CLASS.put(DataPackCanEps.class, D2sCanGroup.EPS);
+        GROUP_OF_CLASS.put(DataPackCanAdas.class, D2sCanGroup.ADAS);
+        GROUP_OF_CLASS.put(DataPackCanBms.class, D2sCanGroup.BMS);
+        GROUP_OF_CLASS.put(DataPackCanObc.class, D2sCanGroup.OBC);
+        GROUP_OF_CLASS.put(DataPackCanMc.class, D2sCanGroup.MC);
+    }
+
+    @Test
+    public void masksMatchReceivedMessages() {
+        Random random = new Random(1);
+        DataParserD2s parser = new DataParserD2s();
+        for (int n = 0; n < 100; n++) {
+            Map<D2sCanGroup, Long> actual = new EnumMap<>(D2sCanGroup.class);
+            DataPack dataPack = D2sTestFrames.dataPack(D2sTestFrames.runInfo(random));
+            Map<D2sCanGroup, Long> expected = receivedMessages(parser, dataPack, actual);
+            dataPack.freeBuf();
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void masksMatchExtractedObjects() {
+        Random random = new Random(1);
+        DataParserD2s parser = new DataParserD2s();
+        D2sDecodeContext context = new D2sDecodeContext();
+        for (int n = 0; n < 100; n++) {
+            DataPack dataPack = D2sTestFrames.dataPack(D2sTestFrames.runInfo(random));
+            Map<D2sCanGroup, Long> expected = receivedMessages(parser, dataPack, null);
+
+            Map<D2sCanGroup, Long> actual = new EnumMap<>(D2sCanGroup.class);
+            List<DataPackTarget> dataPackTargetList = parser.extractBody(dataPack, context, new D2sUnitVisitor() {
+                @Override
+                public void onCanGroup(D2sCanGroup group, long canMask) {
+                    assertTrue(0 != canMask);
+                    assertFalse("duplicate group: " + group, actual.containsKey(group));
+                    actual.put(group, canMask);
+                }
+            });
+            dataPack.freeBuf();
+            assertEquals(expected, actual);
+
+            //收到报文的分组与输出的透传数据对象一一对应
+            Set<D2sCanGroup> emitted = EnumSet.noneOf(D2sCanGroup.class);
+            for (DataPackTarget dataPackTarget : dataPackTargetList) {
+                D2sCanGroup group = GROUP_OF_CLASS.get(dataPackTarget.getDataPackObject().getClass());
+                if (null != group) {
+                    assertTrue("duplicate object: " + group, emitted.add(group));
+                }
+            }
+            assertEquals(actual.keySet(), emitted);
+        }
+    }
+
+    /**
+     * 按透传数据中的报文计算各分组的位图
+     *
+     * @param parser   解析器
+     * @param dataPack 数据包
+     * @param actual   同时记录 onCanGroup 回调的位图, 可以为null
+     * @return 各分组收到的报文位图
+     */
+    private static Map<D2sCanGroup, Long> receivedMessages(DataParserD2s parser, DataPack dataPack,
+                                                           Map<D2sCanGroup, Long> actual) {
+        Map<D2sCanGroup, Long> expected = new EnumMap<>(D2sCanGroup.class);
+        assertTrue(parser.visitBody(dataPack, new D2sUnitVisitor() {
+            @Override
+            public boolean onCanMessage(D2sCanGroup group, int canId, long data) {
+                int[] canIds = null == group ? new int[0] : group.getCanIds();
+                for (int i = 0; i < canIds.length; i++) {
+                    if (canIds[i] == canId) {
+                        expected.merge(group, 1L << i, (a, b) -> a | b);
+                    }
+                }
+                return false;
+            }
+
+            @Override
+            public void onCanGroup(D2sCanGroup group, long canMask) {
+                if (null != actual) {
+                    assertTrue(0 != canMask);
+                    assertFalse("duplicate group: " + group, actual.containsKey(group));
+                    actual.put(group, canMask);
+                }
+            }
+        }));
+        return expected;
+    }
+}
@@ -0,0 +1,45 @@
+package com.incarcloud.rooster.datapack;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * CAN信号表中全部浮点信号的换算结果与 new BigDecimal(value).setScale(scale, RoundingMode.HALF_UP) 逐值对比,
+ * 覆盖每个信号的全部原始值
+ */
+public class D2sCanSignalRoundTest {
+
+    @Test
+    public void allFloatSignals() {
+        int signalCount = 0;
+        for (D2sCanGroup group : D2sCanGroup.values()) {
+            for (int canId : D2sCanSignalDb.canIds(group)) {
+                for (D2sCanSignalDb.Signal signal : D2sCanSignalDb.message(canId).signals) {
+                    if (null != signal.floatSetter) {
+                        assertSignal(canId, signal);
+                        signalCount++;
+                    }
+                }
+            }
+        }
+        assertTrue("信号表中没有浮点信号", signalCount > 0);
+    }
+
+    private static void assertSignal(int canId, D2sCanSignalDb.Signal signal) {
+        for (long raw = 0; raw <= signal.mask; raw++) {
+            float value = (signal.quotient ? (float) raw / signal.factor : (float) raw * signal.factor)
+                    + signal.offset;
+            float expected = new BigDecimal(value).setScale(signal.scale, RoundingMode.HALF_UP).floatValue();
+            float actual = signal.value(raw);
+            if (Float.floatToRawIntBits(expected) != Float.floatToRawIntBits(actual)) {
+                fail(String.format("canId=0x%08X, startBit=%d, raw=%d, value=%s, scale=%d, expected=%s, actual=%s",
+                        canId, signal.startBit, raw, value, signal.scale, expected, actual));
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.incarcloud.rooster.datapack;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * CAN信号描述
+ */
+public class D2sCanSignalTest {
+
+    @Test
+    public void signalsMatchTable() {
+        for (D2sCanGroup group : D2sCanGroup.values()) {
+            for (int canId : group.getCanIds()) {
+                List<D2sCanSignal> signals = D2sCanSignal.forCanId(canId);
+                D2sCanSignalDb.Message message = D2sCanSignalDb.message(canId);
+                assertEquals(message.signals.length, signals.size());
+                Set<String> names = new HashSet<>();
+                for (int i = 0; i < signals.size(); i++) {
+                    D2sCanSignal signal = signals.get(i);
+                    assertEquals(canId, signal.getCanId());
+                    assertSame(group, signal.getGroup());
+                    assertEquals(i, signal.getIndex());
+                    assertEquals(message.signals[i].startBit, signal.getStartBit());
+                    assertEquals(null != message.signals[i].floatSetter, signal.isFloating());
+                    assertNotNull(signal.getName());
+                    assertTrue("duplicate signal name: " + signal, names.add(signal.getName()));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void sameInstanceForEveryLookup() {
+        //PEPS_SEND1_MSG
+        List<D2sCanSignal> signals = D2sCanSignal.forCanId(0x08FF00DD);
+        assertFalse(signals.isEmpty());
+        assertSame(signals.get(0), D2sCanSignal.forCanId(0x08FF00DD).get(0));
+        assertEquals("rkelockCmd", signals.get(0).getName());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void signalsAreReadOnly() {
+        D2sCanSignal.forCanId(0x08FF00DD).clear();
+    }
+
+    @Test
+    public void unknownCanId() {
+        assertTrue(D2sCanSignal.forCanId(0x12345678).isEmpty());
+    }
+}
@@ -0,0 +1,108 @@
+package com.incarcloud.rooster.datapack;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * 车辆运行信息(0x02)解析的内存分配检查
+ * <p>
+ * 用 {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)} 统计预热后
+ * {@link DataParserD2s#extractBody(DataPack)} 每个数据包的分配字节数, 扣除 {@link DataPack#getDataBytes()} 复制数据包的部分。
+ * 剩余部分包括输出的数据对象, 按数据包输出的目标数和透传数据赋值的信号数给出上限:
+ * 每个目标包括数据对象、DataPackTarget和非透传字段, 每个信号最多一个装箱的值。
+ * 解析过程中按信号或按字节产生的临时对象会超出上限。
+ */
+public class D2sDecodeAllocationTest {
+
+    private static final int FRAME_COUNT = 256;
+
+    private static final int WARM_UP_ROUNDS = 200;
+
+    private static final int MEASURE_ROUNDS = 5;
+
+    /**
+     * 每个目标的分配上限(字节)
+     */
+    private static final long MAX_BYTES_PER_TARGET = 1024;
+
+    /**
+     * 透传数据每个已赋值信号的分配上限(字节)
+     */
+    private static final long MAX_BYTES_PER_SIGNAL = 32;
+
+    @Test
+    public void runInfoExtractAllocation() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        Random random = new Random(1);
+        DataPack[] dataPacks = new DataPack[FRAME_COUNT];
+        for (int i = 0; i < FRAME_COUNT; i++) {
+            dataPacks[i] = D2sTestFrames.dataPack(D2sTestFrames.runInfo(random));
+        }
+        DataParserD2s parser = new DataParserD2s();
+
+        //输出的目标数和已赋值的信号数, 每轮相同
+        long targets = 0;
+        long[] signals = new long[1];
+        D2sDecodeContext context = new D2sDecodeContext();
+        for (DataPack dataPack : dataPacks) {
+            List<DataPackTarget> dataPackTargetList = parser.extractBody(dataPack, context, new D2sUnitVisitor() {
+                @Override
+                public void onCanGroup(D2sCanGroup group, long canMask) {
+                    int[] canIds = group.getCanIds();
+                    for (int i = 0; i < canIds.length; i++) {
+                        if (0 != (canMask & 1L << i)) {
+                            signals[0] += D2sCanSignal.forCanId(canIds[i]).size();
+                        }
+                    }
+                }
+            });
+            targets += dataPackTargetList.size();
+        }
+        assertTrue(0 < targets && 0 < signals[0]);
+        long maxBytes = targets * MAX_BYTES_PER_TARGET + signals[0] * MAX_BYTES_PER_SIGNAL;
+
+        for (int round = 0; round < WARM_UP_ROUNDS; round++) {
+            extract(parser, dataPacks);
+            copy(dataPacks);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long bytes = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURE_ROUNDS; round++) {
+            long start = threadMXBean.getThreadAllocatedBytes(threadId);
+            extract(parser, dataPacks);
+            long extracted = threadMXBean.getThreadAllocatedBytes(threadId);
+            copy(dataPacks);
+            long copied = threadMXBean.getThreadAllocatedBytes(threadId);
+            //解析的分配减去复制数据包的分配
+            bytes = Math.min(bytes, (extracted - start) - (copied - extracted));
+        }
+        assertTrue("allocated " + bytes / FRAME_COUNT + " bytes/frame for " + targets / FRAME_COUNT
+                        + " targets and " + signals[0] / FRAME_COUNT + " signals, expected at most "
+                        + maxBytes / FRAME_COUNT,
+                bytes <= maxBytes);
+    }
+
+    private static void extract(DataParserD2s parser, DataPack[] dataPacks) {
+        for (DataPack dataPack : dataPacks) {
+            assertTrue(null != parser.extractBody(dataPack));
+        }
+    }
+
+    private static void copy(DataPack[] dataPacks) {
+        for (DataPack dataPack : dataPacks) {
+            assertTrue(dataPack.getDataBytes().length > 0);
+        }
+    }
+}
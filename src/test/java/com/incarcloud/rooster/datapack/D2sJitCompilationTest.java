@@ -0,0 +1,148 @@
+package com.incarcloud.rooster.datapack;
+
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * 解析热点方法的JIT编译检查
+ * <p>
+ * 在子进程中用 -XX:+PrintCompilation 反复解析车辆运行信息, 检查热点方法被C2(第4层)编译且没有因去优化失效。
+ * 方法体过大(超过 HugeMethodLimit)或反复去优化时只能停留在解释执行或C1, 这里用来防止修改后退化。
+ * 较小的方法通常被内联到调用方, 不会单独编译, 因此子进程中禁止内联这几个方法, 检查方法本身能被C2编译。
+ */
+public class D2sJitCompilationTest {
+
+    /**
+     * 需要C2编译的方法
+     */
+    private static final String[] HOT_METHODS = {
+            D2sInfoUnitDecoder.class.getName() + "::decode",
+            D2sCanSignalDb.class.getName() + "::decode",
+            DataParserD2s.class.getName() + "::extractBody",
+            DataParserD2s.class.getName() + "::extractRunInfo",
+            DataParserD2s.class.getName() + "::visitRunInfo",
+    };
+
+    /**
+     * PrintCompilation 输出: 时间戳 编译ID 属性 层级 类名::方法名 ...
+     */
+    private static final Pattern COMPILATION = Pattern.compile(
+            "^\\s*\\d+\\s+(\\d+)\\s+([%sbn! ]*?)\\s*(\\d)\\s+(\\S+::\\S+)(.*)$");
+
+    @Test
+    public void hotMethodsReachTier4() throws Exception {
+        //PrintCompilation 和 CompileCommand 为HotSpot参数
+        String vmName = System.getProperty("java.vm.name", "");
+        assumeTrue(vmName.contains("HotSpot") || vmName.contains("OpenJDK"));
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add("-XX:+PrintCompilation");
+        command.add("-Xbatch");
+        command.add("-XX:CompileCommand=quiet");
+        for (String method : HOT_METHODS) {
+            command.add("-XX:CompileCommand=dontinline," + method);
+        }
+        command.add(Workload.class.getName());
+        ProcessBuilder builder = new ProcessBuilder(command);
+        builder.redirectErrorStream(true);
+        Process process = builder.start();
+
+        //方法 -> 有效的第4层编译ID
+        Map<String, Set<String>> tier4 = new HashMap<>();
+        List<String> output = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while (null != (line = reader.readLine())) {
+                Matcher matcher = COMPILATION.matcher(line);
+                if (!matcher.matches()) {
+                    output.add(line);
+                    continue;
+                }
+                //OSR编译只覆盖循环, 不计入
+                if (!"4".equals(matcher.group(3)) || matcher.group(2).contains("%")) {
+                    continue;
+                }
+                Set<String> compileIds = tier4.computeIfAbsent(matcher.group(4), k -> new HashSet<>());
+                if (matcher.group(5).contains("made not entrant") || matcher.group(5).contains("made zombie")) {
+                    compileIds.remove(matcher.group(1));
+                } else {
+                    compileIds.add(matcher.group(1));
+                }
+            }
+        }
+        if (!process.waitFor(2, TimeUnit.MINUTES)) {
+            process.destroyForcibly();
+            fail("workload timed out");
+        }
+        assertEquals("workload failed: " + output, 0, process.exitValue());
+
+        for (String method : HOT_METHODS) {
+            Set<String> compileIds = tier4.get(method);
+            assertTrue(method + " is not compiled at tier 4", null != compileIds && !compileIds.isEmpty());
+        }
+    }
+
+    /**
+     * 子进程: 反复解析车辆运行信息
+     */
+    public static final class Workload {
+
+        private static final int FRAME_COUNT = 256;
+
+        private static final int ROUNDS = 200;
+
+        public static void main(String[] args) {
+            //PrintCompilation 直接写标准输出, 屏蔽解析过程中的打印
+            System.setOut(new PrintStream(new OutputStream() {
+                @Override
+                public void write(int b) {
+                }
+            }));
+            Random random = new Random(1);
+            byte[][] frames = new byte[FRAME_COUNT][];
+            for (int i = 0; i < FRAME_COUNT; i++) {
+                frames[i] = D2sTestFrames.runInfo(random);
+            }
+            DataParserD2s parser = new DataParserD2s();
+            long targets = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                for (byte[] frame : frames) {
+                    DataPack dataPack = D2sTestFrames.dataPack(frame);
+                    List<DataPackTarget> dataPackTargetList = parser.extractBody(dataPack);
+                    if (null != dataPackTargetList) {
+                        targets += dataPackTargetList.size();
+                    }
+                    dataPack.freeBuf();
+                }
+            }
+            if (0 == targets) {
+                throw new IllegalStateException("no targets decoded");
+            }
+        }
+    }
+}
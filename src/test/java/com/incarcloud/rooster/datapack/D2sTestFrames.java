@@ -0,0 +1,128 @@
+package com.incarcloud.rooster.datapack;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 测试用数据包
+ */
+final class D2sTestFrames {
+
+    /**
+     * 单体电池个数
+     */
+    static final int CELL_COUNT = 42;
+
+    /**
+     * 温度探针个数
+     */
+    static final int PROBE_COUNT = 16;
+
+    /**
+     * 每个数据包的CAN报文个数
+     */
+    static final int CAN_PACKET_COUNT = 32;
+
+    private static final byte[] ICCID = "89860A1234567890X".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * 信号表中有信号的报文CAN ID
+     */
+    private static final int[] CAN_IDS = canIds();
+
+    private D2sTestFrames() {
+    }
+
+    private static int[] canIds() {
+        List<Integer> canIds = new ArrayList<>();
+        for (D2sCanGroup group : D2sCanGroup.values()) {
+            for (int canId : D2sCanSignalDb.canIds(group)) {
+                canIds.add(canId);
+            }
+        }
+        int[] result = new int[canIds.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = canIds.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * 车辆运行信息(0x02), 包含动力蓄电池、温度、整车、电机、位置、极值和透传数据, 数值随机
+     *
+     * @param random 随机数
+     * @return 数据包
+     */
+    static byte[] runInfo(Random random) {
+        byte[] template = D2sFrameWriter.template(0x02, 0xFE, D2sFrameWriter.HEADER_LENGTH + 6);
+        ByteBuf frame = D2sFrameWriter.begin(D2sFrameWriter.HEAP_ALLOCATOR, template, 1024, ICCID, 0);
+        //动力蓄电池电气数据
+        frame.writeByte(0x01);
+        frame.writeByte(1);
+        frame.writeByte(1);
+        frame.writeShort(random.nextInt(0x10000));
+        frame.writeShort(random.nextInt(0x10000));
+        frame.writeShort(CELL_COUNT);
+        frame.writeShort(1);
+        frame.writeByte(CELL_COUNT);
+        for (int i = 0; i < CELL_COUNT; i++) {
+            frame.writeShort(random.nextInt(0x10000));
+        }
+        //动力蓄电池包温度数据
+        frame.writeByte(0x02);
+        frame.writeByte(1);
+        frame.writeByte(1);
+        frame.writeShort(PROBE_COUNT);
+        for (int i = 0; i < PROBE_COUNT; i++) {
+            frame.writeByte(random.nextInt(0x100));
+        }
+        //整车数据
+        frame.writeByte(0x03);
+        writeRandom(frame, random, 20);
+        //汽车电机部分数据
+        frame.writeByte(0x04);
+        writeRandom(frame, random, 13);
+        //车辆位置数据
+        frame.writeByte(0x07);
+        writeRandom(frame, random, 21);
+        //极值数据
+        frame.writeByte(0x08);
+        writeRandom(frame, random, 14);
+        //透传数据
+        frame.writeByte(0x09);
+        frame.writeByte(CAN_PACKET_COUNT);
+        for (int i = 0; i < CAN_PACKET_COUNT; i++) {
+            frame.writeInt(CAN_IDS[random.nextInt(CAN_IDS.length)]);
+            frame.writeLong(random.nextLong());
+        }
+        D2sFrameWriter.finish(frame);
+        try {
+            return ByteBufUtil.getBytes(frame);
+        } finally {
+            frame.release();
+        }
+    }
+
+    private static void writeRandom(ByteBuf frame, Random random, int length) {
+        for (int i = 0; i < length; i++) {
+            frame.writeByte(random.nextInt(0x100));
+        }
+    }
+
+    /**
+     * @param frame 数据包
+     * @return 持有数据包的DataPack
+     */
+    static DataPack dataPack(byte[] frame) {
+        DataPack dataPack = new DataPack(DataParserD2s.PROTOCOL_GROUP, DataParserD2s.PROTOCOL_NAME,
+                DataParserD2s.PROTOCOL_VERSION);
+        dataPack.setBuf(Unpooled.wrappedBuffer(frame));
+        return dataPack;
+    }
+}
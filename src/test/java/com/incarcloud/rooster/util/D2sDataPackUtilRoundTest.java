@@ -0,0 +1,129 @@
+package com.incarcloud.rooster.util;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.Assert.fail;
+
+/**
+ * {@link D2sDataPackUtil#round} 与 new BigDecimal(value).setScale(scale, RoundingMode.HALF_UP) 逐值对比
+ * <p>
+ * 按 {@code D2sInfoUnitDecoder} 中各字段的换算公式和小数位数, 16位原始值全部覆盖;
+ * 32位原始值(里程、海拔、经纬度)默认覆盖 ±2^20 以内的全部值和全范围的等间隔抽样,
+ * 设置 -Drooster.d2s.round.full=true 时覆盖全部 2^32 个原始值(耗时较长)。
+ */
+public class D2sDataPackUtilRoundTest {
+
+    /**
+     * 是否覆盖全部32位原始值
+     */
+    private static final boolean FULL = Boolean.getBoolean("rooster.d2s.round.full");
+
+    /**
+     * 默认逐值覆盖的32位原始值范围
+     */
+    private static final int DENSE_RANGE = 1 << 20;
+
+    /**
+     * 默认在全范围内抽样的间隔, 取奇数使抽样值的末位各不相同
+     */
+    private static final int SPARSE_STRIDE = 997;
+
+    /**
+     * 总电压、车速、电机控制器输入电压: 原始值 / 10
+     */
+    @Test
+    public void unsignedShortDividedByTen() {
+        for (int raw = 0; raw <= 0xFFFF; raw++) {
+            assertRound((float) raw / 10, 1, raw);
+        }
+    }
+
+    /**
+     * 总电流、电机控制器直流母线电流: 原始值 / 10 - 1000
+     */
+    @Test
+    public void unsignedShortCurrent() {
+        for (int raw = 0; raw <= 0xFFFF; raw++) {
+            assertRound((float) raw / 10 - 1000, 1, raw);
+        }
+    }
+
+    /**
+     * 驱动电机转矩: (原始值 - 20000) / 10
+     */
+    @Test
+    public void unsignedShortTorque() {
+        for (int raw = 0; raw <= 0xFFFF; raw++) {
+            assertRound((float) (raw - 20000) / 10, 1, raw);
+        }
+    }
+
+    /**
+     * 单体电池电压、极值电压: 原始值 / 1000
+     */
+    @Test
+    public void unsignedShortCellVoltage() {
+        for (int raw = 0; raw <= 0xFFFF; raw++) {
+            assertRound((float) raw / 1000, 3, raw);
+        }
+    }
+
+    /**
+     * 累计里程、海拔: (double) 原始值 / 10
+     */
+    @Test
+    public void intDividedByTen() {
+        if (FULL) {
+            for (long raw = Integer.MIN_VALUE; raw <= Integer.MAX_VALUE; raw++) {
+                assertRound((double) (int) raw / 10, 1, raw);
+            }
+            return;
+        }
+        for (int raw = -DENSE_RANGE; raw <= DENSE_RANGE; raw++) {
+            assertRound((double) raw / 10, 1, raw);
+        }
+        for (long raw = Integer.MIN_VALUE; raw <= Integer.MAX_VALUE; raw += SPARSE_STRIDE) {
+            assertRound((double) (int) raw / 10, 1, raw);
+        }
+    }
+
+    /**
+     * 经纬度: (double) 原始值 * 0.000001f
+     */
+    @Test
+    public void intCoordinate() {
+        if (FULL) {
+            for (long raw = Integer.MIN_VALUE; raw <= Integer.MAX_VALUE; raw++) {
+                assertRound((double) (int) raw * 0.000001f, 6, raw);
+            }
+            return;
+        }
+        for (int raw = -DENSE_RANGE; raw <= DENSE_RANGE; raw++) {
+            assertRound((double) raw * 0.000001f, 6, raw);
+        }
+        for (long raw = Integer.MIN_VALUE; raw <= Integer.MAX_VALUE; raw += SPARSE_STRIDE) {
+            assertRound((double) (int) raw * 0.000001f, 6, raw);
+        }
+    }
+
+    private static void assertRound(float value, int scale, long raw) {
+        float expected = new BigDecimal(value).setScale(scale, RoundingMode.HALF_UP).floatValue();
+        float actual = D2sDataPackUtil.round(value, scale);
+        if (Float.floatToRawIntBits(expected) != Float.floatToRawIntBits(actual)) {
+            fail("raw=" + raw + ", value=" + value + ", scale=" + scale
+                    + ", expected=" + expected + ", actual=" + actual);
+        }
+    }
+
+    private static void assertRound(double value, int scale, long raw) {
+        double expected = new BigDecimal(value).setScale(scale, RoundingMode.HALF_UP).doubleValue();
+        double actual = D2sDataPackUtil.round(value, scale);
+        if (Double.doubleToRawLongBits(expected) != Double.doubleToRawLongBits(actual)) {
+            fail("raw=" + raw + ", value=" + value + ", scale=" + scale
+                    + ", expected=" + expected + ", actual=" + actual);
+        }
+    }
+}
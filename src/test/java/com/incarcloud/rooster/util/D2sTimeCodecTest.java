@@ -0,0 +1,170 @@
+package com.incarcloud.rooster.util;
+
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Random;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * {@link D2sTimeCodec} 与宽松模式的 {@link GregorianCalendar} 逐值对比
+ * <p>
+ * 覆盖有夏令时的时区在切换前后的本地时间(包括不存在和重复的本地时间),
+ * 以及月份、日、时、分、秒超出范围的协议时间。
+ */
+public class D2sTimeCodecTest {
+
+    /**
+     * 纽约切换1小时, 豪勋爵岛切换半小时, 上海没有夏令时
+     */
+    private static final String[] ZONES = {"America/New_York", "Australia/Lord_Howe", "Asia/Shanghai"};
+
+    /**
+     * 检查的切换范围
+     */
+    private static final int FROM_YEAR = 2000;
+    private static final int TO_YEAR = 2040;
+
+    /**
+     * 切换前后检查的范围(秒)
+     */
+    private static final int AROUND_SECONDS = 3 * 3600;
+
+    /**
+     * 检查间隔(秒), 不整除60使秒字段各不相同
+     */
+    private static final int STEP_SECONDS = 59;
+
+    @Test
+    public void aroundTransitions() {
+        for (String zoneId : ZONES) {
+            ZoneId zone = ZoneId.of(zoneId);
+            ZoneRules rules = zone.getRules();
+            D2sTimeCodec codec = new D2sTimeCodec(zone);
+            TimeZone timeZone = TimeZone.getTimeZone(zone);
+            Instant end = LocalDateTime.of(TO_YEAR, 1, 1, 0, 0).toInstant(ZoneOffset.UTC);
+            ZoneOffsetTransition transition = rules.nextTransition(
+                    LocalDateTime.of(FROM_YEAR, 1, 1, 0, 0).toInstant(ZoneOffset.UTC));
+            while (null != transition && transition.getInstant().isBefore(end)) {
+                long epochSecond = transition.getInstant().getEpochSecond();
+                for (long second = epochSecond - AROUND_SECONDS; second <= epochSecond + AROUND_SECONDS;
+                     second += STEP_SECONDS) {
+                    long times = second * 1000;
+                    assertEncode(codec, timeZone, times);
+                    //切换前后两个偏移下的本地时间, 包括不存在和重复的本地时间
+                    assertDecode(codec, timeZone, localBytes(second, transition.getOffsetBefore()));
+                    assertDecode(codec, timeZone, localBytes(second, transition.getOffsetAfter()));
+                }
+                transition = rules.nextTransition(transition.getInstant());
+            }
+        }
+    }
+
+    @Test
+    public void lenientOverflow() {
+        int[] months = {0, 1, 2, 12, 13, 24, 25, 255};
+        int[] days = {0, 1, 28, 29, 30, 31, 32, 255};
+        int[] hours = {0, 2, 23, 24, 255};
+        int[] minutes = {0, 59, 60, 255};
+        int[] seconds = {0, 59, 60, 255};
+        for (String zoneId : ZONES) {
+            ZoneId zone = ZoneId.of(zoneId);
+            D2sTimeCodec codec = new D2sTimeCodec(zone);
+            TimeZone timeZone = TimeZone.getTimeZone(zone);
+            for (int yy : new int[]{0, 16, 20, 99, 100, 255}) {
+                for (int month : months) {
+                    for (int day : days) {
+                        for (int hour : hours) {
+                            for (int minute : minutes) {
+                                for (int second : seconds) {
+                                    assertDecode(codec, timeZone, new byte[]{(byte) yy, (byte) month, (byte) day,
+                                            (byte) hour, (byte) minute, (byte) second});
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void randomBytes() {
+        Random random = new Random(1);
+        byte[] bytes = new byte[D2sTimeCodec.LENGTH];
+        for (String zoneId : ZONES) {
+            ZoneId zone = ZoneId.of(zoneId);
+            D2sTimeCodec codec = new D2sTimeCodec(zone);
+            TimeZone timeZone = TimeZone.getTimeZone(zone);
+            for (int i = 0; i < 100000; i++) {
+                random.nextBytes(bytes);
+                assertDecode(codec, timeZone, bytes);
+            }
+        }
+    }
+
+    @Test
+    public void offset() {
+        D2sTimeCodec codec = new D2sTimeCodec(ZoneId.of("Asia/Shanghai"));
+        byte[] buffer = {0x7F, 16, 1, 12, 3, 3, 1, 0x7F};
+        long times = codec.decode(buffer, 1);
+        assertEquals(LocalDateTime.of(2016, 1, 12, 3, 3, 1).toInstant(ZoneOffset.ofHours(8)).toEpochMilli(), times);
+
+        byte[] encoded = new byte[buffer.length];
+        encoded[0] = 0x7F;
+        encoded[7] = 0x7F;
+        codec.encode(times + 999, encoded, 1);
+        assertEquals(Arrays.toString(buffer), Arrays.toString(encoded));
+    }
+
+    private static byte[] localBytes(long epochSecond, ZoneOffset offset) {
+        LocalDateTime local = LocalDateTime.ofEpochSecond(epochSecond, 0, offset);
+        return new byte[]{(byte) (local.getYear() - 2000), (byte) local.getMonthValue(), (byte) local.getDayOfMonth(),
+                (byte) local.getHour(), (byte) local.getMinute(), (byte) local.getSecond()};
+    }
+
+    private static void assertDecode(D2sTimeCodec codec, TimeZone timeZone, byte[] bytes) {
+        GregorianCalendar calendar = new GregorianCalendar(timeZone);
+        calendar.clear();
+        calendar.set((bytes[0] & 0xFF) + 2000, (bytes[1] & 0xFF) - 1, bytes[2] & 0xFF,
+                bytes[3] & 0xFF, bytes[4] & 0xFF, bytes[5] & 0xFF);
+        long expected = calendar.getTimeInMillis();
+        long actual = codec.decode(bytes, 0);
+        if (expected != actual) {
+            fail(codec.getZone() + " " + toString(bytes) + ": expected=" + Instant.ofEpochMilli(expected)
+                    + ", actual=" + Instant.ofEpochMilli(actual));
+        }
+    }
+
+    private static void assertEncode(D2sTimeCodec codec, TimeZone timeZone, long times) {
+        GregorianCalendar calendar = new GregorianCalendar(timeZone);
+        calendar.setTimeInMillis(times);
+        byte[] expected = {(byte) (calendar.get(Calendar.YEAR) - 2000), (byte) (calendar.get(Calendar.MONTH) + 1),
+                (byte) calendar.get(Calendar.DAY_OF_MONTH), (byte) calendar.get(Calendar.HOUR_OF_DAY),
+                (byte) calendar.get(Calendar.MINUTE), (byte) calendar.get(Calendar.SECOND)};
+        byte[] actual = codec.encode(times);
+        if (!Arrays.equals(expected, actual)) {
+            fail(codec.getZone() + " " + Instant.ofEpochMilli(times) + ": expected=" + toString(expected)
+                    + ", actual=" + toString(actual));
+        }
+    }
+
+    private static String toString(byte[] bytes) {
+        StringBuilder builder = new StringBuilder();
+        for (byte b : bytes) {
+            builder.append(0 == builder.length() ? "[" : ", ").append(b & 0xFF);
+        }
+        return builder.append(']').toString();
+    }
+}